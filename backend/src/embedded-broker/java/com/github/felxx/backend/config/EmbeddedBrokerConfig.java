@@ -0,0 +1,32 @@
+package com.github.felxx.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+@Slf4j
+@org.springframework.context.annotation.Configuration
+@Profile("embedded-broker")
+public class EmbeddedBrokerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker(
+            @Value("${app.websocket.embedded-broker.host:0.0.0.0}") String host,
+            @Value("${app.websocket.embedded-broker.port:61613}") int port) throws Exception {
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp",
+                        "tcp://" + host + ":" + port + "?protocols=STOMP;multicastPrefix=/topic/;anycastPrefix=/queue/");
+
+        EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        log.info("Embedded STOMP broker configured on {}:{}", host, port);
+        return broker;
+    }
+}
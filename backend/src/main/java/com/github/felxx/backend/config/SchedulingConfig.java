@@ -0,0 +1,17 @@
+package com.github.felxx.backend.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    // The STOMP broker registers its own TaskScheduler, which makes Spring Boot skip the default one and
+    // run every @Scheduled job on the broker heartbeat threads; the bean named taskScheduler takes them back
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
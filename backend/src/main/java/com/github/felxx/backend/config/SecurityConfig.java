@@ -31,7 +31,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/admin/**").hasAuthority("ADMIN")
-                        .requestMatchers("/auth/**", "/public/**", "/images/*/data", "/ws/**", "/actuator/**").permitAll()
+                        .requestMatchers("/actuator/websocketsessions", "/actuator/websocketsessions/**").hasAuthority("ADMIN")
+                        .requestMatchers("/auth/**", "/public/**", "/images/*/data", "/ws/**", "/ws-native", "/actuator/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/categories", "/categories/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -17,6 +17,7 @@ import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.felxx.backend.dto.auction.AuctionCursorPageDTO;
 import com.github.felxx.backend.dto.auction.AuctionRequestDTO;
 import com.github.felxx.backend.dto.auction.AuctionResponseDTO;
 import com.github.felxx.backend.service.AuctionService;
@@ -75,6 +76,20 @@ public class AuctionController {
         return ResponseEntity.ok(auctions);
     }
     
+    @GetMapping("/keyset")
+    public ResponseEntity<AuctionCursorPageDTO<AuctionResponseDTO>> findAllKeyset(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(auctionService.findByFiltersKeyset(
+                status, categoryId, startDate, endDate, search, cursor, size, includeTotal));
+    }
+    
     @GetMapping("/my-bids")
     public ResponseEntity<Page<AuctionResponseDTO>> getMyBids(
             @RequestParam(required = false) String status,
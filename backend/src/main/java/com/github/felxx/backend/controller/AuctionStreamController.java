@@ -0,0 +1,26 @@
+package com.github.felxx.backend.controller;
+
+import com.github.felxx.backend.dto.websocket.AuctionResumeDTO;
+import com.github.felxx.backend.dto.websocket.AuctionSnapshotDTO;
+import com.github.felxx.backend.service.AuctionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class AuctionStreamController {
+
+    private final AuctionService auctionService;
+
+    @SubscribeMapping("/auction/{id}/snapshot")
+    public AuctionSnapshotDTO snapshot(@DestinationVariable Long id) {
+        return auctionService.getSnapshot(id);
+    }
+
+    @SubscribeMapping("/auction/{id}/resume/{sequence}")
+    public AuctionResumeDTO resume(@DestinationVariable Long id, @DestinationVariable Long sequence) {
+        return auctionService.resume(id, sequence);
+    }
+}
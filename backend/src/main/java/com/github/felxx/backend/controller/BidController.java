@@ -2,6 +2,8 @@ package com.github.felxx.backend.controller;
 
 import com.github.felxx.backend.dto.bid.BidRequestDTO;
 import com.github.felxx.backend.dto.bid.BidResponseDTO;
+import com.github.felxx.backend.dto.bid.ProxyBidRequestDTO;
+import com.github.felxx.backend.dto.bid.ProxyBidResponseDTO;
 import com.github.felxx.backend.model.Bid;
 import com.github.felxx.backend.service.BidService;
 import jakarta.validation.Valid;
@@ -24,13 +26,24 @@ public class BidController {
 
     @PostMapping
     @PreAuthorize("hasAnyAuthority('BUYER', 'SELLER', 'ADMIN')")
-    public ResponseEntity<BidResponseDTO> insert(@Valid @RequestBody BidRequestDTO requestDTO) {
+    public ResponseEntity<BidResponseDTO> insert(
+            @Valid @RequestBody BidRequestDTO requestDTO,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("Creating new bid for auction ID: {} with amount: {}", requestDTO.getAuctionId(), requestDTO.getAmount());
-        BidResponseDTO response = bidService.insert(requestDTO);
+        BidResponseDTO response = bidService.insert(requestDTO, idempotencyKey);
         log.info("Bid created successfully with ID: {}", response.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/proxy")
+    @PreAuthorize("hasAnyAuthority('BUYER', 'SELLER', 'ADMIN')")
+    public ResponseEntity<ProxyBidResponseDTO> insertProxy(@Valid @RequestBody ProxyBidRequestDTO requestDTO) {
+        log.info("Creating proxy bid for auction ID: {} with maximum: {}", requestDTO.getAuctionId(), requestDTO.getMaxAmount());
+        ProxyBidResponseDTO response = bidService.insertProxy(requestDTO);
+        log.info("Proxy bid registered with ID: {}", response.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable("id") Long id) {
         log.info("Deleting bid with ID: {}", id);
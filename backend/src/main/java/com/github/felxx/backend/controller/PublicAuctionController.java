@@ -1,15 +1,24 @@
 package com.github.felxx.backend.controller;
 
+import com.github.felxx.backend.dto.auction.AuctionCursorPageDTO;
 import com.github.felxx.backend.dto.auction.AuctionDetailDTO;
+import com.github.felxx.backend.dto.auction.AuctionFacetsDTO;
+import com.github.felxx.backend.dto.auction.AuctionSuggestionDTO;
 import com.github.felxx.backend.dto.auction.PublicAuctionResponseDTO;
+import com.github.felxx.backend.dto.websocket.AuctionResumeDTO;
+import com.github.felxx.backend.search.AuctionFacetIndex;
+import com.github.felxx.backend.search.AuctionSuggestIndex;
 import com.github.felxx.backend.service.AuctionService;
+import com.github.felxx.backend.sse.AuctionSseRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -19,6 +28,9 @@ import java.util.List;
 public class PublicAuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionSseRegistry sseRegistry;
+    private final AuctionSuggestIndex suggestIndex;
+    private final AuctionFacetIndex facetIndex;
 
     @GetMapping
     public ResponseEntity<Page<PublicAuctionResponseDTO>> findPublicAuctions(
@@ -37,6 +49,33 @@ public class PublicAuctionController {
         return ResponseEntity.ok(auctions);
     }
     
+    @GetMapping("/keyset")
+    public ResponseEntity<AuctionCursorPageDTO<PublicAuctionResponseDTO>> findPublicAuctionsKeyset(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(auctionService.findPublicAuctionsKeyset(
+                status, categoryId, search, cursor, size, includeTotal));
+    }
+    
+    @GetMapping("/suggest")
+    public ResponseEntity<List<AuctionSuggestionDTO>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(suggestIndex.suggest(query, limit));
+    }
+    
+    @GetMapping("/facets")
+    public ResponseEntity<AuctionFacetsDTO> findFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String search) {
+        return ResponseEntity.ok(facetIndex.facets(status, categoryId, search));
+    }
+    
     @GetMapping("/ending-soon")
     public ResponseEntity<List<PublicAuctionResponseDTO>> findEndingSoonAuctions(
             @RequestParam(defaultValue = "3") int limit) {
@@ -56,4 +95,14 @@ public class PublicAuctionController {
         AuctionDetailDTO auctionDetail = auctionService.getPublicAuctionDetail(id);
         return ResponseEntity.ok(auctionDetail);
     }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAuctionEvents(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        auctionService.findById(id);
+        return sseRegistry.watch(id, () -> lastEventId != null
+                ? auctionService.resume(id, lastEventId)
+                : new AuctionResumeDTO(id, List.of(), auctionService.getSnapshot(id)));
+    }
 }
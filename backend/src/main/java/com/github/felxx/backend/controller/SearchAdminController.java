@@ -0,0 +1,23 @@
+package com.github.felxx.backend.controller;
+
+import com.github.felxx.backend.search.AuctionSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/search")
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final AuctionSearchIndexer searchIndexer;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        log.info("Auction search index rebuild requested");
+        searchIndexer.rebuildAsync();
+        return ResponseEntity.accepted().build();
+    }
+}
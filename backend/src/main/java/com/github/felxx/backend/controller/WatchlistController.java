@@ -0,0 +1,38 @@
+package com.github.felxx.backend.controller;
+
+import com.github.felxx.backend.dto.watchlist.WatchlistResponseDTO;
+import com.github.felxx.backend.service.WatchlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/watchlist")
+@RequiredArgsConstructor
+public class WatchlistController {
+
+    private final WatchlistService watchlistService;
+
+    @GetMapping
+    public ResponseEntity<Page<WatchlistResponseDTO>> findMine(Pageable pageable) {
+        return ResponseEntity.ok(watchlistService.findMine(pageable));
+    }
+
+    @PostMapping("/{auctionId}")
+    public ResponseEntity<WatchlistResponseDTO> watch(@PathVariable("auctionId") Long auctionId) {
+        log.info("Adding auction {} to watchlist", auctionId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(watchlistService.watch(auctionId));
+    }
+
+    @DeleteMapping("/{auctionId}")
+    public ResponseEntity<Void> unwatch(@PathVariable("auctionId") Long auctionId) {
+        log.info("Removing auction {} from watchlist", auctionId);
+        watchlistService.unwatch(auctionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.felxx.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionFacetsDTO {
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> statuses;
+}
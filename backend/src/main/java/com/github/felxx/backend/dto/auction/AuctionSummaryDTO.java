@@ -0,0 +1,28 @@
+package com.github.felxx.backend.dto.auction;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSummaryDTO {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private AuctionStatus status;
+    private String notes;
+    private Float minimumBid;
+    private Long categoryId;
+    private String categoryName;
+    private Long publisherId;
+    private String publisherName;
+    private Integer bidCount;
+    private Float currentPrice;
+}
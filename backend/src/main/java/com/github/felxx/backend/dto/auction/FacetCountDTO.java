@@ -0,0 +1,14 @@
+package com.github.felxx.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+    private String key;
+    private String label;
+    private long count;
+}
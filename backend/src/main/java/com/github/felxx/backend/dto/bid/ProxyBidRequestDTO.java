@@ -0,0 +1,20 @@
+package com.github.felxx.backend.dto.bid;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidRequestDTO {
+    
+    @NotNull(message = "Maximum amount cannot be null")
+    @Positive(message = "Maximum amount must be positive")
+    private Float maxAmount;
+    
+    @NotNull(message = "Auction ID cannot be null")
+    private Long auctionId;
+}
@@ -0,0 +1,22 @@
+package com.github.felxx.backend.dto.bid;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidResponseDTO {
+    
+    private Long id;
+    private Long auctionId;
+    private Float maxAmount;
+    private LocalDateTime createdAt;
+    private Boolean active;
+    private Boolean leading;
+    private Float currentPrice;
+    private Integer totalBids;
+}
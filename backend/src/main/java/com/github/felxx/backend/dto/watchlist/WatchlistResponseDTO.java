@@ -0,0 +1,20 @@
+package com.github.felxx.backend.dto.watchlist;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WatchlistResponseDTO {
+    private Long auctionId;
+    private String auctionTitle;
+    private AuctionStatus status;
+    private LocalDateTime endDateTime;
+    private Float currentPrice;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.github.felxx.backend.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionEventDTO {
+    private Long sequence;
+    private AuctionEventType type;
+    private SequencedEvent payload;
+}
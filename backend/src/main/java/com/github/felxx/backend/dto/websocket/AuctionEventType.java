@@ -0,0 +1,6 @@
+package com.github.felxx.backend.dto.websocket;
+
+public enum AuctionEventType {
+    BID,
+    STATUS
+}
@@ -0,0 +1,21 @@
+package com.github.felxx.backend.dto.websocket;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionExtendedDTO implements SequencedEvent {
+    private Long auctionId;
+    private AuctionStatus status;
+    private String event;
+    private LocalDateTime previousEndDateTime;
+    private LocalDateTime endDateTime;
+    private LocalDateTime timestamp;
+    private Long sequence;
+}
@@ -0,0 +1,16 @@
+package com.github.felxx.backend.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionResumeDTO {
+    private Long auctionId;
+    private List<AuctionEventDTO> events;
+    private AuctionSnapshotDTO snapshot;
+}
@@ -0,0 +1,23 @@
+package com.github.felxx.backend.dto.websocket;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSnapshotDTO {
+    private Long auctionId;
+    private Long sequence;
+    private AuctionStatus status;
+    private LocalDateTime endDateTime;
+    private Float minimumBid;
+    private Float currentPrice;
+    private Integer totalBids;
+    private Long leadingBidId;
+    private LocalDateTime timestamp;
+}
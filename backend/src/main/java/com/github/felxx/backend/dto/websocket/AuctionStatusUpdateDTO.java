@@ -10,8 +10,9 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class AuctionStatusUpdateDTO {
+public class AuctionStatusUpdateDTO implements SequencedEvent {
     private Long auctionId;
     private AuctionStatus status;
     private LocalDateTime timestamp;
+    private Long sequence;
 }
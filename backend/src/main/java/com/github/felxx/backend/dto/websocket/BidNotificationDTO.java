@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class BidNotificationDTO {
+public class BidNotificationDTO implements SequencedEvent {
     private Long auctionId;
     private Long bidId;
     private Float amount;
@@ -17,4 +17,5 @@ public class BidNotificationDTO {
     private LocalDateTime bidDateTime;
     private Float currentPrice;
     private Integer totalBids;
+    private Long sequence;
 }
@@ -0,0 +1,18 @@
+package com.github.felxx.backend.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutbidNotificationDTO {
+    private Long auctionId;
+    private String auctionTitle;
+    private Float yourAmount;
+    private Float currentPrice;
+    private LocalDateTime timestamp;
+}
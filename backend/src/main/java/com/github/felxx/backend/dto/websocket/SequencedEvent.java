@@ -0,0 +1,8 @@
+package com.github.felxx.backend.dto.websocket;
+
+public interface SequencedEvent {
+
+    Long getSequence();
+
+    void setSequence(Long sequence);
+}
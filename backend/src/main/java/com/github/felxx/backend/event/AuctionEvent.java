@@ -0,0 +1,19 @@
+package com.github.felxx.backend.event;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.SequencedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuctionEvent {
+    private final Long auctionId;
+    private final AuctionEventType type;
+    private final SequencedEvent payload;
+    private final long publishedAtNanos;
+
+    public long getSequence() {
+        return payload.getSequence();
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.felxx.backend.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+public class AuctionEventBus {
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AuctionEventSubscriber[] subscribers;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReferenceArray<Slot> ring;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final Counter publishedCounter;
+
+    private final List<Consumer> consumers = new ArrayList<>();
+
+    public AuctionEventBus(
+            List<AuctionEventSubscriber> subscribers,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.bus.capacity:8192}") int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.subscribers = subscribers.toArray(new AuctionEventSubscriber[0]);
+        this.meterRegistry = meterRegistry;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.publishedCounter = Counter.builder("auction.events.published")
+                .description("Eventos de leilão publicados no barramento interno")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (AuctionEventSubscriber subscriber : subscribers) {
+            Consumer consumer = new Consumer(subscriber);
+            consumers.add(consumer);
+            consumer.thread.start();
+        }
+        log.info("Auction event bus started with {} slots and subscribers {}",
+                ring.length(), consumers.stream().map(consumer -> consumer.subscriber.getName()).toList());
+    }
+
+    @PreDestroy
+    public void stop() {
+        consumers.forEach(Consumer::stop);
+    }
+
+    public void publish(AuctionEvent event) {
+        long sequence = cursor.getAndIncrement();
+        ring.set((int) (sequence & mask), new Slot(sequence, event));
+        publishedCounter.increment();
+        for (Consumer consumer : consumers) {
+            if (consumer.parked) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    private record Slot(long sequence, AuctionEvent event) {
+    }
+
+    private class Consumer implements Runnable {
+        private final AuctionEventSubscriber subscriber;
+        private final Thread thread;
+        private final Counter lostCounter;
+        private volatile boolean running = true;
+        private volatile boolean parked;
+        private volatile long next;
+
+        private Consumer(AuctionEventSubscriber subscriber) {
+            this.subscriber = subscriber;
+            this.next = cursor.get();
+            this.thread = new Thread(this, "auction-events-" + subscriber.getName());
+            this.thread.setDaemon(true);
+            this.lostCounter = Counter.builder("auction.events.lost")
+                    .description("Eventos de leilão sobrescritos antes de serem consumidos")
+                    .tag("subscriber", subscriber.getName())
+                    .register(meterRegistry);
+            Gauge.builder("auction.events.lag", this, consumer -> cursor.get() - consumer.next)
+                    .description("Eventos de leilão publicados e ainda não consumidos")
+                    .tag("subscriber", subscriber.getName())
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Slot slot = ring.get((int) (next & mask));
+                if (slot == null || slot.sequence < next) {
+                    await();
+                    continue;
+                }
+                if (slot.sequence > next) {
+                    skipLapped();
+                    continue;
+                }
+                next++;
+                try {
+                    subscriber.onEvent(slot.event);
+                } catch (RuntimeException e) {
+                    log.warn("Subscriber {} failed to handle event {} of auction {}",
+                            subscriber.getName(), slot.event.getSequence(), slot.event.getAuctionId(), e);
+                }
+            }
+        }
+
+        private void await() {
+            if (cursor.get() > next) {
+                Thread.onSpinWait();
+                return;
+            }
+            parked = true;
+            if (cursor.get() <= next) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            parked = false;
+        }
+
+        private void skipLapped() {
+            long resumeAt = Math.max(next + 1, cursor.get() - ring.length() + 1);
+            long lost = resumeAt - next;
+            next = resumeAt;
+            lostCounter.increment(lost);
+            log.warn("Subscriber {} was lapped by the auction event bus and lost {} events", subscriber.getName(), lost);
+            try {
+                subscriber.onEventsLost(lost);
+            } catch (RuntimeException e) {
+                log.warn("Subscriber {} failed to handle lost events", subscriber.getName(), e);
+            }
+        }
+
+        private void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.felxx.backend.event;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuctionEventMetrics implements AuctionEventSubscriber {
+
+    private final Map<AuctionEventType, Timer> deliveryTimers = new EnumMap<>(AuctionEventType.class);
+
+    public AuctionEventMetrics(MeterRegistry meterRegistry) {
+        for (AuctionEventType type : AuctionEventType.values()) {
+            deliveryTimers.put(type, Timer.builder("auction.events.delivery")
+                    .description("Tempo entre a publicação do evento de leilão e seu consumo")
+                    .tag("type", type.name())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "metrics";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        deliveryTimers.get(event.getType())
+                .record(System.nanoTime() - event.getPublishedAtNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.felxx.backend.event;
+
+public interface AuctionEventSubscriber {
+
+    String getName();
+
+    void onEvent(AuctionEvent event);
+
+    default void onEventsLost(long count) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.felxx.backend.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class BidIdAllocator {
+
+    private static final String SEQUENCE_NAME = "bids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private long next;
+    private long limit;
+
+    public BidIdAllocator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.bidding.journal.id-block-size:1000}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public synchronized long next() {
+        if (next >= limit) {
+            next = reserveBlock();
+            limit = next + blockSize;
+            log.debug("Reserved bid ids {}-{}", next, limit - 1);
+        }
+        return next++;
+    }
+
+    private long reserveBlock() {
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    long aboveExisting = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM bids", Long.class);
+                    List<Long> current = jdbcTemplate.queryForList(
+                            "SELECT next_value FROM bid_id_blocks WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+                    long start = current.isEmpty() ? aboveExisting : Math.max(current.get(0), aboveExisting);
+                    if (current.isEmpty()) {
+                        jdbcTemplate.update("INSERT INTO bid_id_blocks (sequence_name, next_value) VALUES (?, ?)",
+                                SEQUENCE_NAME, start + blockSize);
+                    } else {
+                        jdbcTemplate.update("UPDATE bid_id_blocks SET next_value = ? WHERE sequence_name = ?",
+                                start + blockSize, SEQUENCE_NAME);
+                    }
+                    return start;
+                });
+            } catch (DuplicateKeyException e) {
+                log.debug("Another node created the bid id sequence first, retrying");
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.github.felxx.backend.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class BidJournal {
+
+    private static final int ENTRY_SIZE = 48;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final boolean enabled;
+    private final String journalId;
+    private final Path directory;
+    private final int segmentCapacity;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Queue<BidJournalEntry> pending = new ConcurrentLinkedQueue<>();
+    private final List<Segment> closedSegments = new ArrayList<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private Segment activeSegment;
+    private int position;
+    private long nextSequence;
+    private volatile long persistedSequence;
+
+    public BidJournal(
+            @Value("${app.bidding.journal.enabled:false}") boolean enabled,
+            @Value("${app.bidding.journal.id:}") String journalId,
+            @Value("${app.bidding.journal.dir:./data/bid-journal}") String directory,
+            @Value("${app.bidding.journal.segment-size:67108864}") int segmentSize,
+            JdbcTemplate jdbcTemplate) {
+        this.enabled = enabled;
+        this.journalId = journalId.isBlank() ? defaultJournalId() : journalId;
+        this.directory = Paths.get(directory);
+        this.segmentCapacity = Math.max(1, segmentSize / ENTRY_SIZE);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getJournalId() {
+        return journalId;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Long> checkpoint = jdbcTemplate.queryForList(
+                "SELECT last_sequence FROM bid_journal_checkpoints WHERE journal_id = ?", Long.class, journalId);
+        persistedSequence = checkpoint.isEmpty() ? 0 : checkpoint.get(0);
+        long lastSequence = persistedSequence;
+
+        List<Path> segmentFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segmentFiles::add);
+        }
+        segmentFiles.sort(null);
+
+        for (Path file : segmentFiles) {
+            long segmentLast = 0;
+            try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer readBuffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                for (int offset = 0; offset + ENTRY_SIZE <= readBuffer.capacity(); offset += ENTRY_SIZE) {
+                    BidJournalEntry entry = read(readBuffer, offset);
+                    if (entry == null) {
+                        break;
+                    }
+                    segmentLast = entry.getSequence();
+                    if (entry.getSequence() > persistedSequence) {
+                        pending.add(entry);
+                    }
+                }
+            }
+            lastSequence = Math.max(lastSequence, segmentLast);
+            closedSegments.add(new Segment(file, segmentLast));
+        }
+
+        nextSequence = lastSequence + 1;
+        deletePersistedSegments();
+        openSegment();
+        if (!pending.isEmpty()) {
+            log.info("Bid journal recovered {} entries not yet persisted (checkpoint {})", pending.size(), persistedSequence);
+        }
+    }
+
+    public synchronized BidJournalEntry append(long bidId, long auctionId, long bidderId, float amount, LocalDateTime bidDateTime) {
+        if (!enabled) {
+            throw new IllegalStateException("Bid journal is disabled");
+        }
+        if (position + ENTRY_SIZE > buffer.capacity()) {
+            rotate();
+        }
+        BidJournalEntry entry = new BidJournalEntry(nextSequence++, bidId, auctionId, bidderId, amount, bidDateTime);
+        write(buffer, position, entry);
+        buffer.force(position, ENTRY_SIZE);
+        position += ENTRY_SIZE;
+        activeSegment.lastSequence = entry.getSequence();
+        pending.add(entry);
+        return entry;
+    }
+
+    public List<BidJournalEntry> peekPending(int limit) {
+        List<BidJournalEntry> batch = new ArrayList<>(Math.min(limit, 1024));
+        Iterator<BidJournalEntry> iterator = pending.iterator();
+        while (iterator.hasNext() && batch.size() < limit) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    public void persist(List<BidJournalEntry> batch, Runnable writer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        writer.run();
+        for (int i = 0; i < batch.size(); i++) {
+            pending.poll();
+        }
+        persistedSequence = batch.get(batch.size() - 1).getSequence();
+        synchronized (this) {
+            deletePersistedSegments();
+        }
+    }
+
+    public long getPersistedSequence() {
+        return persistedSequence;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private void rotate() {
+        try {
+            buffer.force();
+            channel.close();
+            closedSegments.add(activeSegment);
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate bid journal segment", e);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentCapacity * ENTRY_SIZE);
+        activeSegment = new Segment(file, 0);
+        position = 0;
+    }
+
+    private void deletePersistedSegments() {
+        Iterator<Segment> iterator = closedSegments.iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            if (segment.lastSequence <= persistedSequence) {
+                try {
+                    Files.deleteIfExists(segment.file);
+                    iterator.remove();
+                } catch (IOException e) {
+                    log.warn("Could not delete persisted bid journal segment {}", segment.file, e);
+                }
+            }
+        }
+    }
+
+    private static void write(MappedByteBuffer target, int offset, BidJournalEntry entry) {
+        target.putLong(offset, entry.getSequence());
+        target.putLong(offset + 8, entry.getBidId());
+        target.putLong(offset + 16, entry.getAuctionId());
+        target.putLong(offset + 24, entry.getBidderId());
+        target.putFloat(offset + 32, entry.getAmount());
+        target.putLong(offset + 36, toEpochMillis(entry.getBidDateTime()));
+        target.putInt(offset + 44, checksum(target, offset));
+    }
+
+    private static BidJournalEntry read(MappedByteBuffer source, int offset) {
+        long sequence = source.getLong(offset);
+        if (sequence <= 0 || source.getInt(offset + 44) != checksum(source, offset)) {
+            return null;
+        }
+        return new BidJournalEntry(
+                sequence,
+                source.getLong(offset + 8),
+                source.getLong(offset + 16),
+                source.getLong(offset + 24),
+                source.getFloat(offset + 32),
+                fromEpochMillis(source.getLong(offset + 36))
+        );
+    }
+
+    private static int checksum(MappedByteBuffer source, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(source.slice(offset, ENTRY_SIZE - 4));
+        return (int) crc.getValue();
+    }
+
+    private static String defaultJournalId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Could not resolve the host name, set app.bidding.journal.id", e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMillis, 1000), (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static class Segment {
+        private final Path file;
+        private long lastSequence;
+
+        private Segment(Path file, long lastSequence) {
+            this.file = file;
+            this.lastSequence = lastSequence;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.felxx.backend.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BidJournalEntry {
+
+    private final long sequence;
+    private final long bidId;
+    private final long auctionId;
+    private final long bidderId;
+    private final float amount;
+    private final LocalDateTime bidDateTime;
+}
@@ -0,0 +1,84 @@
+package com.github.felxx.backend.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BidJournalWriter {
+
+    private static final String INSERT_BID =
+            "INSERT INTO bids (id, amount, bid_date_time, person_id, auction_id) " +
+            "SELECT ?, ?, ?, ?, ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM bids WHERE id = ?)";
+
+    private final BidJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BidJournalWriter(
+            BidJournal journal,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.bidding.journal.batch-size:500}") int batchSize) {
+        this.journal = journal;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        if (journal.isEnabled() && journal.getPendingCount() > 0) {
+            log.info("Replaying {} journaled bids into the database", journal.getPendingCount());
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.bidding.journal.flush-interval-ms:200}")
+    public synchronized void flush() {
+        if (!journal.isEnabled()) {
+            return;
+        }
+        List<BidJournalEntry> batch = journal.peekPending(batchSize);
+        while (!batch.isEmpty()) {
+            List<BidJournalEntry> entries = batch;
+            journal.persist(entries, () -> transactionTemplate.executeWithoutResult(status -> write(entries)));
+            log.debug("Persisted {} journaled bids up to sequence {}", entries.size(), journal.getPersistedSequence());
+            batch = journal.peekPending(batchSize);
+        }
+    }
+
+    private void write(List<BidJournalEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_BID, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getBidId());
+            statement.setFloat(2, entry.getAmount());
+            statement.setTimestamp(3, Timestamp.valueOf(entry.getBidDateTime()));
+            statement.setLong(4, entry.getBidderId());
+            statement.setLong(5, entry.getAuctionId());
+            statement.setLong(6, entry.getBidId());
+        });
+
+        long lastSequence = entries.get(entries.size() - 1).getSequence();
+        int updated = jdbcTemplate.update(
+                "UPDATE bid_journal_checkpoints SET last_sequence = ? WHERE journal_id = ?",
+                lastSequence, journal.getJournalId());
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO bid_journal_checkpoints (journal_id, last_sequence) VALUES (?, ?)",
+                    journal.getJournalId(), lastSequence);
+        }
+    }
+}
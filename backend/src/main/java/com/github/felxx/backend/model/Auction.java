@@ -7,13 +7,21 @@ import jakarta.validation.constraints.Positive;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @Entity
-@Table(name = "auctions")
+@DynamicUpdate
+@Table(name = "auctions", indexes = {
+        @Index(name = "idx_auctions_end_id", columnList = "end_date_time, id"),
+        @Index(name = "idx_auctions_status_end_id", columnList = "status, end_date_time, id"),
+        @Index(name = "idx_auctions_category_end_id", columnList = "category_id, end_date_time, id"),
+        @Index(name = "idx_auctions_updated_id", columnList = "updated_at, id")
+})
 public class Auction {
 
     @Id
@@ -42,6 +50,25 @@ public class Auction {
     @Positive(message = "Minimum bid must be positive")
     private Float minimumBid;
 
+    @Column(updatable = false)
+    private Float currentPrice;
+
+    @Column(updatable = false)
+    private Integer bidCount;
+
+    @Column(updatable = false)
+    private Long leadingBidId;
+
+    @Column(updatable = false)
+    private Long leadingBidderId;
+
+    // Set while the auction has active proxy bids, so every node knows to run proxy resolution
+    @Column(updatable = false)
+    private boolean proxiesActive;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     @ManyToOne
     @JoinColumn(name = "publisher_id")
     private Person publisher;
@@ -0,0 +1,19 @@
+package com.github.felxx.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "bid_id_blocks")
+public class BidIdBlock {
+
+    @Id
+    private String sequenceName;
+
+    @Column(nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,38 @@
+package com.github.felxx.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "bid_idempotency_keys")
+public class BidIdempotencyKey {
+
+    @Id
+    @Column(length = 400)
+    private String scopedKey;
+
+    private Long bidId;
+
+    @Column(nullable = false)
+    private Float amount;
+
+    private LocalDateTime bidDateTime;
+
+    @Column(nullable = false)
+    private Long auctionId;
+
+    private String auctionTitle;
+
+    private Long bidderId;
+
+    private String bidderName;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.github.felxx.backend.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "proxy_bids", indexes = {
+        @Index(name = "idx_proxy_bids_auction_active", columnList = "auction_id, active")
+})
+public class ProxyBid {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Maximum amount cannot be null")
+    @Positive(message = "Maximum amount must be positive")
+    private Float maxAmount;
+
+    @NotNull(message = "Created date and time cannot be null")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @ManyToOne
+    @JoinColumn(name = "person_id")
+    @NotNull(message = "Bidder cannot be null")
+    private Person bidder;
+
+    @ManyToOne
+    @JoinColumn(name = "auction_id")
+    @NotNull(message = "Auction cannot be null")
+    private Auction auction;
+}
@@ -0,0 +1,30 @@
+package com.github.felxx.backend.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "watchlists", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_watchlists_person_auction", columnNames = {"person_id", "auction_id"})
+})
+public class Watchlist {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "person_id")
+    @NotNull(message = "Person cannot be null")
+    private Person person;
+
+    @ManyToOne
+    @JoinColumn(name = "auction_id")
+    @NotNull(message = "Auction cannot be null")
+    private Auction auction;
+
+    private LocalDateTime createdAt;
+}
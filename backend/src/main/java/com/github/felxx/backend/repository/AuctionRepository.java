@@ -3,77 +3,306 @@ package com.github.felxx.backend.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.github.felxx.backend.dto.auction.AuctionSummaryDTO;
 import com.github.felxx.backend.model.Auction;
 import com.github.felxx.backend.model.AuctionStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
     
-    List<Auction> findAllByStatusAndEndDateTimeBefore(AuctionStatus status, LocalDateTime dateTime);
+    @Query("SELECT a.id, a.status, a.startDateTime, a.endDateTime FROM Auction a " +
+           "WHERE a.status IN :statuses AND MOD(a.id, :shardCount) IN :shards")
+    List<Object[]> findLifecycleDeadlines(
+        @Param("statuses") Collection<AuctionStatus> statuses,
+        @Param("shardCount") int shardCount,
+        @Param("shards") Collection<Integer> shards
+    );
+
+    @Query("SELECT a.id, a.status, a.startDateTime, a.endDateTime FROM Auction a " +
+           "WHERE MOD(a.id, :shardCount) IN :shards AND (" +
+           "(a.status = :scheduled AND a.startDateTime <= :horizon) OR " +
+           "(a.status = :open AND a.endDateTime <= :horizon))")
+    List<Object[]> findLifecycleDeadlinesBefore(
+        @Param("shardCount") int shardCount,
+        @Param("shards") Collection<Integer> shards,
+        @Param("scheduled") AuctionStatus scheduled,
+        @Param("open") AuctionStatus open,
+        @Param("horizon") LocalDateTime horizon
+    );
+
+    @Query("SELECT a.id, a.startDateTime, a.endDateTime FROM Auction a " +
+           "WHERE a.id BETWEEN :minId AND :maxId AND a.id IN :ids AND a.status = :status")
+    List<Object[]> findDeadlinesInRange(
+        @Param("minId") Long minId,
+        @Param("maxId") Long maxId,
+        @Param("ids") Collection<Long> ids,
+        @Param("status") AuctionStatus status
+    );
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = :to, a.updatedAt = :now " +
+           "WHERE a.id BETWEEN :minId AND :maxId AND a.id IN :ids AND a.status = :from AND a.startDateTime <= :now")
+    int openStartedInRange(
+        @Param("minId") Long minId,
+        @Param("maxId") Long maxId,
+        @Param("ids") Collection<Long> ids,
+        @Param("from") AuctionStatus from,
+        @Param("to") AuctionStatus to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = :to, a.updatedAt = :now " +
+           "WHERE a.id BETWEEN :minId AND :maxId AND a.id IN :ids AND a.status = :from AND a.endDateTime <= :now")
+    int closeEndedInRange(
+        @Param("minId") Long minId,
+        @Param("maxId") Long maxId,
+        @Param("ids") Collection<Long> ids,
+        @Param("from") AuctionStatus from,
+        @Param("to") AuctionStatus to,
+        @Param("now") LocalDateTime now
+    );
 
-    List<Auction> findAllByStatusAndStartDateTimeBefore(AuctionStatus status, LocalDateTime dateTime);
+    String SUMMARY_SELECT = "SELECT new com.github.felxx.backend.dto.auction.AuctionSummaryDTO(" +
+           "a.id, a.title, a.description, a.startDateTime, a.endDateTime, a.status, a.notes, a.minimumBid, " +
+           "c.id, c.name, p.id, p.name, a.bidCount, a.currentPrice) " +
+           "FROM Auction a LEFT JOIN a.category c LEFT JOIN a.publisher p ";
+
+    String FILTERS = "(:status IS NULL OR a.status = :status) AND " +
+           "(:categoryId IS NULL OR c.id = :categoryId) AND " +
+           "(:search IS NULL OR :search = '' OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+    String ID_FILTERS = "a.id IN :ids AND " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:categoryId IS NULL OR c.id = :categoryId)";
+
+    String DATE_FILTERS = "(:startDate IS NULL OR a.startDateTime >= :startDate) AND " +
+           "(:endDate IS NULL OR a.endDateTime <= :endDate)";
 
     Page<Auction> findByStatus(AuctionStatus status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(a) FROM Auction a")
+    Page<AuctionSummaryDTO> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT +
+           "WHERE " + FILTERS + " AND " +
+           "(:startDate IS NULL OR a.startDateTime >= :startDate) AND " +
+           "(:endDate IS NULL OR a.endDateTime <= :endDate)",
+           countQuery = "SELECT COUNT(a) FROM Auction a LEFT JOIN a.category c " +
+           "WHERE " + FILTERS + " AND " +
+           "(:startDate IS NULL OR a.startDateTime >= :startDate) AND " +
+           "(:endDate IS NULL OR a.endDateTime <= :endDate)")
+    Page<AuctionSummaryDTO> findSummariesByFilters(
+        @Param("status") AuctionStatus status,
+        @Param("categoryId") Long categoryId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("search") String search,
+        Pageable pageable
+    );
     
-    @Query("SELECT a FROM Auction a " +
-           "LEFT JOIN a.category c " +
-           "WHERE (:status IS NULL OR a.status = :status) AND " +
-           "(:categoryId IS NULL OR c.id = :categoryId) AND " +
+    @Query(SUMMARY_SELECT +
+           "WHERE " + FILTERS + " AND " +
            "(:startDate IS NULL OR a.startDateTime >= :startDate) AND " +
            "(:endDate IS NULL OR a.endDateTime <= :endDate) AND " +
-           "(:search IS NULL OR :search = '' OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Auction> findByFilters(
+           "(:afterEndDateTime IS NULL OR a.endDateTime > :afterEndDateTime OR " +
+           "(a.endDateTime = :afterEndDateTime AND a.id > :afterId)) " +
+           "ORDER BY a.endDateTime ASC, a.id ASC")
+    List<AuctionSummaryDTO> findSummariesByFiltersAfter(
         @Param("status") AuctionStatus status,
         @Param("categoryId") Long categoryId,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate,
         @Param("search") String search,
+        @Param("afterEndDateTime") LocalDateTime afterEndDateTime,
+        @Param("afterId") Long afterId,
         Pageable pageable
     );
+
+    @Query("SELECT COUNT(a) FROM Auction a LEFT JOIN a.category c " +
+           "WHERE " + FILTERS + " AND " +
+           "(:startDate IS NULL OR a.startDateTime >= :startDate) AND " +
+           "(:endDate IS NULL OR a.endDateTime <= :endDate)")
+    long countByFilters(
+        @Param("status") AuctionStatus status,
+        @Param("categoryId") Long categoryId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("search") String search
+    );
     
     List<Auction> findByStatus(AuctionStatus status);
     
-    @Query("SELECT a FROM Auction a " +
+    @Query(SUMMARY_SELECT +
            "WHERE a.status = :status " +
            "AND a.endDateTime > :now " +
            "AND a.endDateTime <= :maxEndTime " +
            "ORDER BY a.endDateTime ASC")
-    List<Auction> findEndingSoon(
+    List<AuctionSummaryDTO> findEndingSoonSummaries(
         @Param("status") AuctionStatus status,
         @Param("now") LocalDateTime now,
         @Param("maxEndTime") LocalDateTime maxEndTime,
         Pageable pageable
     );
     
-    @Query("SELECT a FROM Auction a " +
-           "LEFT JOIN a.bids b " +
+    @Query(SUMMARY_SELECT +
            "WHERE a.status = :status " +
-           "GROUP BY a.id " +
-           "HAVING COUNT(b.id) > 0 " +
-           "ORDER BY COUNT(b.id) DESC")
-    List<Auction> findMostPopular(
+           "AND a.bidCount > 0 " +
+           "ORDER BY a.bidCount DESC")
+    List<AuctionSummaryDTO> findMostPopularSummaries(
         @Param("status") AuctionStatus status,
         Pageable pageable
     );
     
-    @Query("SELECT a FROM Auction a " +
-           "LEFT JOIN a.category c " +
-           "WHERE a.id IN :auctionIds AND " +
-           "(:status IS NULL OR a.status = :status) AND " +
-           "(:categoryId IS NULL OR c.id = :categoryId) AND " +
-           "(:search IS NULL OR :search = '' OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Auction> findByIdInAndFilters(
-        @Param("auctionIds") List<Long> auctionIds,
+    @Query(value = SUMMARY_SELECT +
+           "WHERE a.id IN (SELECT b.auction.id FROM Bid b WHERE b.bidder.id = :bidderId) AND " + FILTERS,
+           countQuery = "SELECT COUNT(a) FROM Auction a LEFT JOIN a.category c " +
+           "WHERE a.id IN (SELECT b.auction.id FROM Bid b WHERE b.bidder.id = :bidderId) AND " + FILTERS)
+    Page<AuctionSummaryDTO> findSummariesByBidderAndFilters(
+        @Param("bidderId") Long bidderId,
         @Param("status") AuctionStatus status,
         @Param("categoryId") Long categoryId,
         @Param("search") String search,
         Pageable pageable
     );
-}
 
+    @Query(value = SUMMARY_SELECT +
+           "WHERE " + ID_FILTERS + " AND " + DATE_FILTERS,
+           countQuery = "SELECT COUNT(a) FROM Auction a LEFT JOIN a.category c " +
+           "WHERE " + ID_FILTERS + " AND " + DATE_FILTERS)
+    Page<AuctionSummaryDTO> findSummariesByIdsAndFilters(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") AuctionStatus status,
+        @Param("categoryId") Long categoryId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT +
+           "WHERE a.id IN (SELECT b.auction.id FROM Bid b WHERE b.bidder.id = :bidderId) AND " + ID_FILTERS,
+           countQuery = "SELECT COUNT(a) FROM Auction a LEFT JOIN a.category c " +
+           "WHERE a.id IN (SELECT b.auction.id FROM Bid b WHERE b.bidder.id = :bidderId) AND " + ID_FILTERS)
+    Page<AuctionSummaryDTO> findSummariesByBidderAndIds(
+        @Param("bidderId") Long bidderId,
+        @Param("ids") Collection<Long> ids,
+        @Param("status") AuctionStatus status,
+        @Param("categoryId") Long categoryId,
+        Pageable pageable
+    );
+
+    @Query("SELECT a.id, a.updatedAt FROM Auction a " +
+           "WHERE a.updatedAt >= :since AND (:afterUpdatedAt IS NULL OR a.updatedAt > :afterUpdatedAt OR " +
+           "(a.updatedAt = :afterUpdatedAt AND a.id > :afterId)) " +
+           "ORDER BY a.updatedAt ASC, a.id ASC")
+    List<Object[]> findUpdatedSince(
+        @Param("since") LocalDateTime since,
+        @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    @Query("SELECT a.id, a.title, a.bidCount FROM Auction a WHERE a.status = :status")
+    List<Object[]> findSuggestRowsByStatus(@Param("status") AuctionStatus status);
+
+    @Query("SELECT a.id, a.title, a.bidCount FROM Auction a WHERE a.id = :id")
+    List<Object[]> findSuggestRowById(@Param("id") Long id);
+
+    @Query("SELECT a.id, a.status, a.category.id FROM Auction a")
+    List<Object[]> findFacetRows();
 
+    @Query("SELECT a.id, a.status, a.category.id, a.updatedAt FROM Auction a " +
+           "WHERE a.updatedAt >= :since AND (:afterUpdatedAt IS NULL OR a.updatedAt > :afterUpdatedAt OR " +
+           "(a.updatedAt = :afterUpdatedAt AND a.id > :afterId)) " +
+           "ORDER BY a.updatedAt ASC, a.id ASC")
+    List<Object[]> findFacetRowsUpdatedSince(
+        @Param("since") LocalDateTime since,
+        @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    @Query("SELECT a.status, a.category.id, COUNT(a) FROM Auction a " +
+           "WHERE (:search IS NULL OR :search = '' OR LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "GROUP BY a.status, a.category.id")
+    List<Object[]> countByStatusAndCategory(@Param("search") String search);
+
+    @Modifying
+    @Query("UPDATE Auction a SET " +
+           "a.bidCount = (SELECT COUNT(b) FROM Bid b WHERE b.auction = a), " +
+           "a.currentPrice = (SELECT MAX(b.amount) FROM Bid b WHERE b.auction = a) " +
+           "WHERE a.bidCount IS NULL")
+    int backfillBidTotals();
+
+    @Modifying
+    @Query("UPDATE Auction a SET " +
+           "a.leadingBidId = (SELECT MIN(b.id) FROM Bid b WHERE b.auction = a AND b.amount = a.currentPrice) " +
+           "WHERE a.leadingBidId IS NULL AND a.currentPrice IS NOT NULL")
+    int backfillLeadingBids();
+
+    @Modifying
+    @Query("UPDATE Auction a SET " +
+           "a.leadingBidderId = (SELECT b.bidder.id FROM Bid b WHERE b.id = a.leadingBidId) " +
+           "WHERE a.leadingBidderId IS NULL AND a.leadingBidId IS NOT NULL")
+    int backfillLeadingBidders();
+
+    @Query("SELECT a.id, a.currentPrice, a.bidCount, a.leadingBidId, a.leadingBidderId FROM Auction a " +
+           "WHERE a.status = :status AND a.currentPrice IS NOT NULL")
+    List<Object[]> findBidTotalsByStatus(@Param("status") AuctionStatus status);
+
+    @Query("SELECT a.id, a.currentPrice, a.bidCount, a.leadingBidId, a.leadingBidderId FROM Auction a " +
+           "WHERE a.id = :auctionId")
+    List<Object[]> findBidTotals(@Param("auctionId") Long auctionId);
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.proxiesActive = true WHERE a.id = :auctionId")
+    int markProxiesActive(@Param("auctionId") Long auctionId);
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.proxiesActive = false WHERE a.id = :auctionId " +
+           "AND NOT EXISTS (SELECT p FROM ProxyBid p WHERE p.auction = a AND p.active = true)")
+    int clearProxiesActive(@Param("auctionId") Long auctionId);
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.proxiesActive = true WHERE a.proxiesActive = false AND a.status = :status " +
+           "AND EXISTS (SELECT p FROM ProxyBid p WHERE p.auction = a AND p.active = true)")
+    int backfillProxiesActive(@Param("status") AuctionStatus status);
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentPrice = :amount, a.bidCount = COALESCE(a.bidCount, 0) + 1, " +
+           "a.leadingBidId = :bidId, a.leadingBidderId = :bidderId " +
+           "WHERE a.id = :auctionId AND a.status = :status " +
+           "AND (a.currentPrice IS NULL OR a.currentPrice < :amount)")
+    int raiseCurrentPrice(
+        @Param("auctionId") Long auctionId,
+        @Param("amount") Float amount,
+        @Param("bidId") Long bidId,
+        @Param("bidderId") Long bidderId,
+        @Param("status") AuctionStatus status
+    );
+
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentPrice = :currentPrice, a.bidCount = :bidCount, " +
+           "a.leadingBidId = :leadingBidId, a.leadingBidderId = :leadingBidderId " +
+           "WHERE a.id = :auctionId")
+    int updateBidTotals(
+        @Param("auctionId") Long auctionId,
+        @Param("currentPrice") Float currentPrice,
+        @Param("bidCount") Integer bidCount,
+        @Param("leadingBidId") Long leadingBidId,
+        @Param("leadingBidderId") Long leadingBidderId
+    );
+
+    @Query("SELECT a.id FROM Auction a " +
+           "WHERE COALESCE(a.bidCount, -1) <> (SELECT COUNT(b) FROM Bid b WHERE b.auction = a) " +
+           "OR COALESCE(a.currentPrice, 0) <> COALESCE((SELECT MAX(b.amount) FROM Bid b WHERE b.auction = a), 0)")
+    List<Long> findIdsWithInconsistentBidTotals();
+}
@@ -0,0 +1,16 @@
+package com.github.felxx.backend.repository;
+
+import com.github.felxx.backend.model.BidIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface BidIdempotencyKeyRepository extends JpaRepository<BidIdempotencyKey, String> {
+
+    @Modifying
+    @Query("DELETE FROM BidIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -20,5 +20,14 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     List<Bid> findRecentBidsByAuctionId(@Param("auctionId") Long auctionId, Pageable pageable);
     
     List<Bid> findByBidderId(Long bidderId);
+
+    long countByAuctionId(Long auctionId);
+
+    boolean existsByAuctionIdAndBidderId(Long auctionId, Long bidderId);
+
+    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId " +
+           "AND b.amount = (SELECT MAX(b2.amount) FROM Bid b2 WHERE b2.auction.id = :auctionId) " +
+           "ORDER BY b.id ASC")
+    List<Bid> findLeadingBids(@Param("auctionId") Long auctionId);
 }
 
@@ -4,9 +4,18 @@ import com.github.felxx.backend.model.Image;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
     Page<Image> findByAuctionId(Long auctionId, Pageable pageable);
+
+    @Query("SELECT i.auction.id, i.id, i.imageName, i.displayOrder, i.uploadedAt FROM Image i " +
+           "WHERE i.auction.id IN :auctionIds")
+    List<Object[]> findMetadataByAuctionIds(@Param("auctionIds") Collection<Long> auctionIds);
 }
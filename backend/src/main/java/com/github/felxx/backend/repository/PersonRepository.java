@@ -19,4 +19,7 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
     Page<Person> searchByNameOrEmail(@Param("search") String search, Pageable pageable);
     
     boolean existsByEmail(String email);
+
+    @Query("SELECT p.email FROM Person p WHERE p.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
 }
\ No newline at end of file
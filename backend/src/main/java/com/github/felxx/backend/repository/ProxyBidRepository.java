@@ -0,0 +1,22 @@
+package com.github.felxx.backend.repository;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+
+    @Query("SELECT p FROM ProxyBid p WHERE p.auction.id = :auctionId AND p.active = true " +
+           "ORDER BY p.maxAmount DESC, p.createdAt ASC, p.id ASC")
+    List<ProxyBid> findActiveByAuctionId(@Param("auctionId") Long auctionId);
+
+    Optional<ProxyBid> findFirstByAuctionIdAndBidderIdAndActiveTrue(Long auctionId, Long bidderId);
+
+    @Query("SELECT DISTINCT p.auction.id FROM ProxyBid p WHERE p.active = true AND p.auction.status = :status")
+    List<Long> findAuctionIdsWithActiveProxies(@Param("status") AuctionStatus status);
+}
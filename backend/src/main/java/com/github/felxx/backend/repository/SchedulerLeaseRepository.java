@@ -0,0 +1,49 @@
+package com.github.felxx.backend.repository;
+
+import com.github.felxx.backend.model.SchedulerLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM SchedulerLease l WHERE l.shardId = :shardId")
+    Optional<SchedulerLease> findForUpdate(@Param("shardId") Integer shardId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :ownerId, l.fencingToken = l.fencingToken + 1, l.expiresAt = :expiresAt " +
+           "WHERE l.shardId = :shardId AND (l.ownerId IS NULL OR l.expiresAt < :now)")
+    int acquire(
+        @Param("shardId") Integer shardId,
+        @Param("ownerId") String ownerId,
+        @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :expiresAt " +
+           "WHERE l.shardId = :shardId AND l.ownerId = :ownerId AND l.fencingToken = :fencingToken")
+    int renew(
+        @Param("shardId") Integer shardId,
+        @Param("ownerId") String ownerId,
+        @Param("fencingToken") Long fencingToken,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.ownerId = NULL, l.expiresAt = :now " +
+           "WHERE l.shardId = :shardId AND l.ownerId = :ownerId AND l.fencingToken = :fencingToken")
+    int release(
+        @Param("shardId") Integer shardId,
+        @Param("ownerId") String ownerId,
+        @Param("fencingToken") Long fencingToken,
+        @Param("now") LocalDateTime now
+    );
+}
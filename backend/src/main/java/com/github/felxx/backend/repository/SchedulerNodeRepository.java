@@ -0,0 +1,18 @@
+package com.github.felxx.backend.repository;
+
+import com.github.felxx.backend.model.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    long countByHeartbeatAtAfter(LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM SchedulerNode n WHERE n.heartbeatAt < :cutoff")
+    int deleteHeartbeatBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,30 @@
+package com.github.felxx.backend.repository;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Watchlist;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WatchlistRepository extends JpaRepository<Watchlist, Long> {
+    Page<Watchlist> findByPersonId(Long personId, Pageable pageable);
+
+    Optional<Watchlist> findByPersonIdAndAuctionId(Long personId, Long auctionId);
+
+    boolean existsByPersonIdAndAuctionId(Long personId, Long auctionId);
+
+    @Query("SELECT w.auction.id, w.person.id, w.person.email FROM Watchlist w WHERE w.auction.status <> :status")
+    List<Object[]> findWatchersByAuctionStatusNot(@Param("status") AuctionStatus status);
+
+    @Modifying
+    @Query("DELETE FROM Watchlist w WHERE w.auction.id = :auctionId")
+    int deleteByAuctionId(@Param("auctionId") Long auctionId);
+}
@@ -0,0 +1,241 @@
+package com.github.felxx.backend.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@Slf4j
+public class HashedTimingWheel<K, V> {
+
+    private static final int ACTIVE = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final String name;
+    private final long tickMillis;
+    private final Bucket<K, V>[] wheel;
+    private final int mask;
+    private final Consumer<List<Timeout<K, V>>> handler;
+
+    private final Map<K, Timeout<K, V>> timeouts = new ConcurrentHashMap<>();
+    private final Queue<Timeout<K, V>> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<K, V>> pendingCancels = new ConcurrentLinkedQueue<>();
+
+    private volatile Thread worker;
+    private volatile long startMillis;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, Consumer<List<Timeout<K, V>>> handler) {
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.name = name;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.handler = handler;
+    }
+
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        startMillis = System.currentTimeMillis();
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public void schedule(K key, V value, long deadlineMillis) {
+        Timeout<K, V> current = timeouts.get(key);
+        if (current != null && current.deadlineMillis == deadlineMillis
+                && Objects.equals(current.value, value) && current.state.get() == ACTIVE) {
+            return;
+        }
+        Timeout<K, V> timeout = new Timeout<>(key, value, deadlineMillis);
+        Timeout<K, V> previous = timeouts.put(key, timeout);
+        if (previous != null) {
+            cancel(previous);
+        }
+        pendingAdds.add(timeout);
+    }
+
+    public void cancel(K key) {
+        Timeout<K, V> timeout = timeouts.remove(key);
+        if (timeout != null) {
+            cancel(timeout);
+        }
+    }
+
+    public void cancelIf(Predicate<K> predicate) {
+        timeouts.forEach((key, timeout) -> {
+            if (predicate.test(key) && timeouts.remove(key, timeout)) {
+                cancel(timeout);
+            }
+        });
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    private void cancel(Timeout<K, V> timeout) {
+        if (timeout.state.compareAndSet(ACTIVE, CANCELLED)) {
+            pendingCancels.add(timeout);
+        }
+    }
+
+    private void run() {
+        while (worker != null) {
+            try {
+                long tickDeadline = waitForNextTick();
+                removeCancelled();
+                transferPending();
+                List<Timeout<K, V>> expired = wheel[(int) (tick & mask)].expire(tickDeadline, timeouts);
+                tick++;
+                if (!expired.isEmpty()) {
+                    handler.accept(expired);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Timing wheel {} failed to process tick {}", name, tick, e);
+            }
+        }
+    }
+
+    private long waitForNextTick() throws InterruptedException {
+        long deadline = startMillis + (tick + 1) * tickMillis;
+        long sleepMillis = deadline - System.currentTimeMillis();
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+        return deadline;
+    }
+
+    private void removeCancelled() {
+        Timeout<K, V> timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<K, V> timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (timeout.state.get() != ACTIVE) {
+                continue;
+            }
+            long calculated = Math.max(0, timeout.deadlineMillis - startMillis) / tickMillis;
+            timeout.remainingRounds = Math.max(0, (calculated - tick) / wheel.length);
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    public static final class Timeout<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+        private long remainingRounds;
+        private Bucket<K, V> bucket;
+        private Timeout<K, V> next;
+        private Timeout<K, V> prev;
+
+        private Timeout(K key, V value, long deadlineMillis) {
+            this.key = key;
+            this.value = value;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    private static final class Bucket<K, V> {
+        private Timeout<K, V> head;
+        private Timeout<K, V> tail;
+
+        private void add(Timeout<K, V> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private List<Timeout<K, V>> expire(long tickDeadline, Map<K, Timeout<K, V>> index) {
+            List<Timeout<K, V>> expired = new ArrayList<>();
+            Timeout<K, V> timeout = head;
+            while (timeout != null) {
+                Timeout<K, V> next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadlineMillis <= tickDeadline) {
+                    remove(timeout);
+                    if (timeout.state.compareAndSet(ACTIVE, EXPIRED)) {
+                        index.remove(timeout.key, timeout);
+                        expired.add(timeout);
+                    }
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        private void remove(Timeout<K, V> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.felxx.backend.scheduling;
+
+import com.github.felxx.backend.model.SchedulerLease;
+import com.github.felxx.backend.model.SchedulerNode;
+import com.github.felxx.backend.repository.SchedulerLeaseRepository;
+import com.github.felxx.backend.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class ShardLeaseManager {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final SchedulerNodeRepository nodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final int shardCount;
+    private final Duration leaseTtl;
+    private final long heartbeatIntervalMillis;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    private final Map<Integer, Long> ownedTokens = new ConcurrentHashMap<>();
+    private volatile boolean shardsInitialized;
+
+    public ShardLeaseManager(
+            SchedulerLeaseRepository leaseRepository,
+            SchedulerNodeRepository nodeRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.auction.lifecycle.node-id:}") String nodeId,
+            @Value("${app.auction.lifecycle.shards:16}") int shardCount,
+            @Value("${app.auction.lifecycle.lease-ttl-ms:15000}") long leaseTtlMillis,
+            @Value("${app.auction.lifecycle.heartbeat-interval-ms:5000}") long heartbeatIntervalMillis) {
+        this.leaseRepository = leaseRepository;
+        this.nodeRepository = nodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.shardCount = Math.max(1, shardCount);
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+        this.heartbeatIntervalMillis = Math.max(1, heartbeatIntervalMillis);
+        // Renewals get a thread of their own so a slow @Scheduled job can never let the leases expire
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        heartbeatExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                log.warn("Scheduler lease heartbeat of node {} failed", nodeId, e);
+            }
+        }, 0, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) shardCount);
+    }
+
+    public boolean owns(long auctionId) {
+        return ownedTokens.containsKey(shardOf(auctionId));
+    }
+
+    public Set<Integer> ownedShards() {
+        return new TreeSet<>(ownedTokens.keySet());
+    }
+
+    public boolean fence(int shardId) {
+        Long token = ownedTokens.get(shardId);
+        if (token == null) {
+            return false;
+        }
+        SchedulerLease lease = leaseRepository.findForUpdate(shardId).orElse(null);
+        boolean valid = lease != null
+                && nodeId.equals(lease.getOwnerId())
+                && token.equals(lease.getFencingToken())
+                && lease.getExpiresAt().isAfter(LocalDateTime.now());
+        if (!valid) {
+            log.warn("Node {} lost the lease of scheduler shard {} (token {})", nodeId, shardId, token);
+            ownedTokens.remove(shardId, token);
+        }
+        return valid;
+    }
+
+    public synchronized void heartbeat() {
+        if (!shardsInitialized) {
+            initializeShards();
+        }
+
+        Set<Integer> acquired = new HashSet<>();
+        Set<Integer> released = new HashSet<>();
+        Map<Integer, Long> owned = new HashMap<>(ownedTokens);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(leaseTtl);
+
+            SchedulerNode node = nodeRepository.findById(nodeId).orElseGet(SchedulerNode::new);
+            node.setNodeId(nodeId);
+            node.setHeartbeatAt(now);
+            nodeRepository.save(node);
+            nodeRepository.deleteHeartbeatBefore(now.minus(leaseTtl.multipliedBy(10)));
+
+            long liveNodes = Math.max(1, nodeRepository.countByHeartbeatAtAfter(now.minus(leaseTtl)));
+            int fairShare = (int) ((shardCount + liveNodes - 1) / liveNodes);
+
+            for (Map.Entry<Integer, Long> lease : Map.copyOf(owned).entrySet()) {
+                if (leaseRepository.renew(lease.getKey(), nodeId, lease.getValue(), expiresAt) == 0) {
+                    owned.remove(lease.getKey());
+                    released.add(lease.getKey());
+                }
+            }
+
+            if (owned.size() > fairShare) {
+                for (Integer shardId : new TreeSet<>(owned.keySet()).descendingSet()) {
+                    if (owned.size() <= fairShare) {
+                        break;
+                    }
+                    leaseRepository.release(shardId, nodeId, owned.remove(shardId), now);
+                    released.add(shardId);
+                }
+            }
+
+            for (int shardId = 0; shardId < shardCount && owned.size() < fairShare; shardId++) {
+                if (!owned.containsKey(shardId) && leaseRepository.acquire(shardId, nodeId, expiresAt, now) == 1) {
+                    owned.put(shardId, leaseRepository.findById(shardId).orElseThrow().getFencingToken());
+                    acquired.add(shardId);
+                }
+            }
+        });
+
+        ownedTokens.keySet().retainAll(owned.keySet());
+        ownedTokens.putAll(owned);
+
+        if (!acquired.isEmpty() || !released.isEmpty()) {
+            log.info("Node {} acquired scheduler shards {} and released {}, now owns {}",
+                    nodeId, acquired, released, ownedShards());
+            eventPublisher.publishEvent(new ShardOwnershipChangedEvent(acquired, released));
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        heartbeatExecutor.shutdown();
+        if (ownedTokens.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                ownedTokens.forEach((shardId, token) -> leaseRepository.release(shardId, nodeId, token, now));
+                nodeRepository.deleteById(nodeId);
+            });
+            log.info("Node {} released scheduler shards {}", nodeId, ownedShards());
+        } catch (RuntimeException e) {
+            log.warn("Could not release scheduler shards of node {}", nodeId, e);
+        }
+        ownedTokens.clear();
+    }
+
+    private void initializeShards() {
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            if (leaseRepository.existsById(shardId)) {
+                continue;
+            }
+            SchedulerLease lease = new SchedulerLease();
+            lease.setShardId(shardId);
+            lease.setFencingToken(0L);
+            lease.setExpiresAt(LocalDateTime.now());
+            try {
+                leaseRepository.save(lease);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Scheduler shard {} was created by another node", shardId);
+            }
+        }
+        shardsInitialized = true;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.felxx.backend.scheduling;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ShardOwnershipChangedEvent {
+    private final Set<Integer> acquired;
+    private final Set<Integer> released;
+}
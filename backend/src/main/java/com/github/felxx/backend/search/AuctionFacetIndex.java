@@ -0,0 +1,392 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionFacetsDTO;
+import com.github.felxx.backend.dto.auction.FacetCountDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.util.FixedBitSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+public class AuctionFacetIndex implements AuctionEventSubscriber {
+
+    private static final AuctionStatus[] STATUSES = AuctionStatus.values();
+
+    private final AuctionRepository auctionRepository;
+    private final CategoryRepository categoryRepository;
+    private final AuctionSearchIndex searchIndex;
+    private final AuctionSearchIndexer searchIndexer;
+    private final int batchSize;
+    private final Duration reconcileOverlap;
+
+    private final Map<Long, String> categoryNames = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock; a reload builds a new instance without the lock and swaps it in
+    private FacetCells state = new FacetCells();
+    // Guarded by lock; set while a reload runs so writes made meanwhile are replayed on the new cells
+    private List<Consumer<FacetCells>> pending;
+    private volatile boolean ready;
+    private LocalDateTime reconciledTo = LocalDateTime.now();
+
+    public AuctionFacetIndex(
+            AuctionRepository auctionRepository,
+            CategoryRepository categoryRepository,
+            AuctionSearchIndex searchIndex,
+            AuctionSearchIndexer searchIndexer,
+            @Value("${app.search.rebuild-batch-size:1000}") int batchSize,
+            @Value("${app.search.catch-up-overlap-ms:60000}") long reconcileOverlapMillis) {
+        this.auctionRepository = auctionRepository;
+        this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.searchIndexer = searchIndexer;
+        this.batchSize = Math.max(1, batchSize);
+        this.reconcileOverlap = Duration.ofMillis(reconcileOverlapMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = reload();
+        ready = true;
+        log.info("Facet index loaded with {} auctions", loaded);
+    }
+
+    // Other nodes change auctions without publishing events here, so recently updated rows are re-read
+    @Scheduled(initialDelayString = "${app.search.facets.reconcile-interval-ms:60000}",
+            fixedDelayString = "${app.search.facets.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = reconciledTo.minus(reconcileOverlap);
+        LocalDateTime afterUpdatedAt = null;
+        Long afterId = null;
+        long reconciled = 0;
+        List<Object[]> rows;
+        do {
+            rows = auctionRepository.findFacetRowsUpdatedSince(since, afterUpdatedAt, afterId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    apply(cells -> cells.move((Long) row[0], (AuctionStatus) row[1], (Long) row[2]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Object[] last = rows.get(rows.size() - 1);
+            afterUpdatedAt = (LocalDateTime) last[3];
+            afterId = (Long) last[0];
+            reconciled += rows.size();
+        } while (rows.size() == batchSize);
+        reconciledTo = started;
+        if (reconciled > 0) {
+            log.debug("Facet index reconciled {} auctions changed since {}", reconciled, since);
+        }
+    }
+
+    // Deletes made on other nodes leave no updated row behind, and removed auctions keep their ordinal,
+    // so the cells are rebuilt from the table now and then
+    @Scheduled(initialDelayString = "${app.search.facets.reload-interval-ms:3600000}",
+            fixedDelayString = "${app.search.facets.reload-interval-ms:3600000}")
+    public void scheduledReload() {
+        if (ready) {
+            int loaded = reload();
+            log.debug("Facet index reloaded with {} auctions", loaded);
+        }
+    }
+
+    public AuctionFacetsDTO facets(String status, Long categoryId, String search) {
+        AuctionStatus statusFilter = parseStatus(status);
+        long[] statusCounts = new long[STATUSES.length];
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        boolean searching = search != null && !search.isBlank();
+
+        if (!ready || (searching && !searchIndexer.isReady())) {
+            for (Object[] row : auctionRepository.countByStatusAndCategory(searching ? search : null)) {
+                accumulate((AuctionStatus) row[0], (Long) row[1], (Long) row[2],
+                        statusFilter, categoryId, statusCounts, categoryCounts);
+            }
+            return toFacetsDTO(statusCounts, categoryCounts);
+        }
+
+        long[] matchingIds = searching ? searchIndex.matchingIds(search) : null;
+        lock.readLock().lock();
+        try {
+            FacetCells current = state;
+            FixedBitSet matches = matchingIds != null ? current.toBits(matchingIds) : null;
+            current.cells.forEach((cellCategoryId, byStatus) -> {
+                int[] cellCounts = current.counts.get(cellCategoryId);
+                for (AuctionStatus cellStatus : STATUSES) {
+                    FixedBitSet cell = byStatus[cellStatus.ordinal()];
+                    if (cell == null) {
+                        continue;
+                    }
+                    long count = matches != null
+                            ? FixedBitSet.intersectionCount(cell, matches)
+                            : cellCounts[cellStatus.ordinal()];
+                    accumulate(cellStatus, cellCategoryId, count, statusFilter, categoryId, statusCounts, categoryCounts);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toFacetsDTO(statusCounts, categoryCounts);
+    }
+
+    public void update(Long auctionId, AuctionStatus status, Long categoryId) {
+        lock.writeLock().lock();
+        try {
+            apply(cells -> cells.move(auctionId, status, categoryId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long auctionId) {
+        lock.writeLock().lock();
+        try {
+            apply(cells -> cells.remove(auctionId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateAfterCommit(Auction auction) {
+        Long auctionId = auction.getId();
+        AuctionStatus status = auction.getStatus();
+        Long categoryId = auction.getCategory() != null ? auction.getCategory().getId() : null;
+        afterCommit(() -> update(auctionId, status, categoryId));
+    }
+
+    public void deleteAfterCommit(Long auctionId) {
+        afterCommit(() -> delete(auctionId));
+    }
+
+    public void putCategoryAfterCommit(Category category) {
+        Long categoryId = category.getId();
+        String name = category.getName();
+        afterCommit(() -> categoryNames.put(categoryId, name));
+    }
+
+    public void removeCategoryAfterCommit(Long categoryId) {
+        afterCommit(() -> categoryNames.remove(categoryId));
+    }
+
+    @Override
+    public String getName() {
+        return "facet-index";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        if (event.getType() != AuctionEventType.STATUS
+                || !(event.getPayload() instanceof AuctionStatusUpdateDTO update) || update.getStatus() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(cells -> {
+                Long categoryId = cells.categoryOf(event.getAuctionId());
+                if (categoryId != null) {
+                    cells.move(event.getAuctionId(), update.getStatus(), categoryId);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEventsLost(long count) {
+        log.warn("Facet index missed {} auction events, reloading", count);
+        reload();
+    }
+
+    private synchronized int reload() {
+        for (Category category : categoryRepository.findAll()) {
+            categoryNames.put(category.getId(), category.getName());
+        }
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // The table is read and the new cells built without the lock, so facet requests keep being served
+        LocalDateTime started = LocalDateTime.now();
+        FacetCells rebuilt = new FacetCells();
+        List<Object[]> rows;
+        try {
+            rows = auctionRepository.findFacetRows();
+            for (Object[] row : rows) {
+                rebuilt.put((Long) row[0], (AuctionStatus) row[1], (Long) row[2]);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(write -> write.accept(rebuilt));
+            pending = null;
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        reconciledTo = started;
+        return rows.size();
+    }
+
+    // Callers hold the write lock
+    private void apply(Consumer<FacetCells> write) {
+        write.accept(state);
+        if (pending != null) {
+            pending.add(write);
+        }
+    }
+
+    private static void accumulate(AuctionStatus status, Long categoryId, long count,
+                                   AuctionStatus statusFilter, Long categoryFilter,
+                                   long[] statusCounts, Map<Long, Long> categoryCounts) {
+        if (count == 0 || status == null || categoryId == null) {
+            return;
+        }
+        if (categoryFilter == null || categoryFilter.equals(categoryId)) {
+            statusCounts[status.ordinal()] += count;
+        }
+        if (statusFilter == null || statusFilter == status) {
+            categoryCounts.merge(categoryId, count, Long::sum);
+        }
+    }
+
+    private AuctionFacetsDTO toFacetsDTO(long[] statusCounts, Map<Long, Long> categoryCounts) {
+        List<FacetCountDTO> categories = new ArrayList<>(categoryCounts.size());
+        categoryCounts.forEach((categoryId, count) -> categories.add(new FacetCountDTO(
+                categoryId.toString(), categoryNames.getOrDefault(categoryId, categoryId.toString()), count)));
+        categories.sort(Comparator.comparingLong(FacetCountDTO::getCount).reversed()
+                .thenComparing(FacetCountDTO::getLabel));
+
+        List<FacetCountDTO> statuses = new ArrayList<>();
+        for (AuctionStatus status : STATUSES) {
+            if (statusCounts[status.ordinal()] > 0) {
+                statuses.add(new FacetCountDTO(status.name(), status.name(), statusCounts[status.ordinal()]));
+            }
+        }
+        return new AuctionFacetsDTO(categories, statuses);
+    }
+
+    private static AuctionStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return AuctionStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return AuctionStatus.OPEN;
+        }
+    }
+
+    private static final class FacetCells {
+        // Auction ids are mapped to dense ordinals so the bitsets stay small and ids are not limited to int
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, FixedBitSet[]> cells = new HashMap<>();
+        private final Map<Long, int[]> counts = new HashMap<>();
+
+        private void move(Long auctionId, AuctionStatus status, Long categoryId) {
+            remove(auctionId);
+            put(auctionId, status, categoryId);
+        }
+
+        private void put(Long auctionId, AuctionStatus status, Long categoryId) {
+            if (status == null || categoryId == null) {
+                return;
+            }
+            int bit = ordinals.computeIfAbsent(auctionId, id -> ordinals.size());
+            FixedBitSet[] byStatus = cells.computeIfAbsent(categoryId, id -> new FixedBitSet[STATUSES.length]);
+            int ordinal = status.ordinal();
+            FixedBitSet cell = FixedBitSet.ensureCapacity(
+                    byStatus[ordinal] != null ? byStatus[ordinal] : new FixedBitSet(64), bit);
+            byStatus[ordinal] = cell;
+            if (!cell.getAndSet(bit)) {
+                counts.computeIfAbsent(categoryId, id -> new int[STATUSES.length])[ordinal]++;
+            }
+        }
+
+        private void remove(Long auctionId) {
+            Integer bit = ordinals.get(auctionId);
+            if (bit == null) {
+                return;
+            }
+            cells.forEach((categoryId, byStatus) -> {
+                for (int ordinal = 0; ordinal < byStatus.length; ordinal++) {
+                    FixedBitSet cell = byStatus[ordinal];
+                    if (cell != null && bit < cell.length() && cell.getAndClear(bit)) {
+                        counts.get(categoryId)[ordinal]--;
+                    }
+                }
+            });
+        }
+
+        private FixedBitSet toBits(long[] auctionIds) {
+            FixedBitSet bits = new FixedBitSet(Math.max(1, ordinals.size()));
+            for (long auctionId : auctionIds) {
+                Integer bit = ordinals.get(auctionId);
+                if (bit != null) {
+                    bits.set(bit);
+                }
+            }
+            return bits;
+        }
+
+        private Long categoryOf(Long auctionId) {
+            Integer bit = ordinals.get(auctionId);
+            if (bit == null) {
+                return null;
+            }
+            for (Map.Entry<Long, FixedBitSet[]> entry : cells.entrySet()) {
+                for (FixedBitSet cell : entry.getValue()) {
+                    if (cell != null && bit < cell.length() && cell.get(bit)) {
+                        return entry.getKey();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.ArrayUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class AuctionSearchIndex {
+
+    private static final String ID = "id";
+    private static final String AUCTION_ID = "auctionId";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String CATEGORY = "categoryId";
+    private static final String START = "startDateTime";
+    private static final String END = "endDateTime";
+    private static final String GENERATION = "generation";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+    // Bumped whenever documents gain fields, so an index written by an older version is rebuilt on startup
+    private static final String SCHEMA = "schema";
+    private static final String SCHEMA_VERSION = "2";
+    private static final Map<String, String> SORTABLE = Map.of("endDateTime", END, "startDateTime", START, "id", AUCTION_ID);
+
+    private final boolean enabled;
+    private final Path indexPath;
+    private final int maxHits;
+
+    private Directory directory;
+    private Analyzer analyzer;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile long generation = System.currentTimeMillis();
+
+    public AuctionSearchIndex(
+            @Value("${app.search.enabled:true}") boolean enabled,
+            @Value("${app.search.index-path:./data/search-index}") String indexPath,
+            @Value("${app.search.max-hits:1000}") int maxHits) {
+        this.enabled = enabled;
+        this.indexPath = Paths.get(indexPath);
+        this.maxHits = Math.max(1, maxHits);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(indexPath);
+        directory = FSDirectory.open(indexPath);
+        analyzer = CustomAnalyzer.builder()
+                .withTokenizer(StandardTokenizerFactory.NAME)
+                .addTokenFilter(LowerCaseFilterFactory.NAME)
+                .addTokenFilter(ASCIIFoldingFilterFactory.NAME)
+                .build();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        log.info("Opened auction search index at {} with {} documents", indexPath.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxHits() {
+        return maxHits;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public boolean isCurrentSchema() {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (SCHEMA.equals(entry.getKey())) {
+                return SCHEMA_VERSION.equals(entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    public void index(Long auctionId, String title, String description, AuctionStatus status, Long categoryId,
+                      LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Document document = new Document();
+        document.add(new StringField(ID, auctionId.toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(AUCTION_ID, auctionId));
+        document.add(new TextField(TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, description != null ? description : "", Field.Store.NO));
+        document.add(new NumericDocValuesField(STATUS, status != null ? status.ordinal() : -1));
+        if (categoryId != null) {
+            document.add(new LongPoint(CATEGORY, categoryId));
+        }
+        addDate(document, START, startDateTime);
+        addDate(document, END, endDateTime);
+        document.add(new LongPoint(GENERATION, generation));
+        try {
+            writer.updateDocument(idTerm(auctionId), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void updateStatus(Long auctionId, AuctionStatus status) {
+        try {
+            writer.updateNumericDocValue(idTerm(auctionId), STATUS, status.ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long auctionId) {
+        try {
+            writer.deleteDocuments(idTerm(auctionId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long startGeneration() {
+        generation = System.currentTimeMillis();
+        return generation;
+    }
+
+    public void finishGeneration(long completed) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, completed - 1));
+            writer.setLiveCommitData(Map.of(SCHEMA, SCHEMA_VERSION).entrySet());
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Returns every matching id in relevance order, or null when more than maxHits auctions match; only meant
+    // for narrowing a small SQL query down, listings page through the index with page and pageAfter instead
+    public List<Long> search(AuctionSearchQuery search) {
+        List<String> terms = analyze(search.text());
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Query query = buildQuery(terms, search);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs hits = searcher.search(query, maxHits + 1);
+                if (hits.scoreDocs.length > maxHits) {
+                    return null;
+                }
+                return auctionIds(searcher, hits.scoreDocs, 0);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Returns null for unpaged requests and orders that are not stored in the index
+    public AuctionSearchPage page(AuctionSearchQuery search, Pageable pageable) {
+        Sort sort = pageable.isPaged() ? toSort(pageable) : null;
+        if (sort == null) {
+            return null;
+        }
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        List<String> terms = analyze(search.text());
+        if (terms.isEmpty()) {
+            return new AuctionSearchPage(List.of(), 0);
+        }
+        Query query = buildQuery(terms, search);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(query);
+                if (offset >= total) {
+                    return new AuctionSearchPage(List.of(), total);
+                }
+                int wanted = (int) Math.min(total, offset + limit);
+                TopDocs hits = sort == Sort.RELEVANCE
+                        ? searcher.search(query, wanted)
+                        : searcher.search(query, wanted, sort);
+                return new AuctionSearchPage(auctionIds(searcher, hits.scoreDocs, (int) offset), total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Seeks past (afterEndDateTime, afterId) in end date order, the same order as the keyset listings
+    public List<Long> pageAfter(AuctionSearchQuery search, LocalDateTime afterEndDateTime, Long afterId, int limit) {
+        List<String> terms = analyze(search.text());
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Sort sort = new Sort(new SortField(END, SortField.Type.LONG), new SortField(AUCTION_ID, SortField.Type.LONG));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query query = buildQuery(terms, search);
+                TopDocs hits = afterEndDateTime == null
+                        ? searcher.search(query, limit, sort)
+                        : searcher.searchAfter(afterCursor(searcher, afterEndDateTime, afterId), query, limit, sort);
+                return auctionIds(searcher, hits.scoreDocs, 0);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long count(AuctionSearchQuery search) {
+        List<String> terms = analyze(search.text());
+        if (terms.isEmpty()) {
+            return 0;
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(buildQuery(terms, search));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long[] matchingIds(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return new long[0];
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.search(buildQuery(terms, new AuctionSearchQuery(text, null, null, null, null)),
+                        new AuctionIdCollectorManager());
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        if (enabled) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (enabled && writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(List<String> terms, AuctionSearchQuery search) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            query.add(termQuery(terms.get(i), i == terms.size() - 1), BooleanClause.Occur.MUST);
+        }
+        if (search.status() != null) {
+            query.add(NumericDocValuesField.newSlowExactQuery(STATUS, search.status().ordinal()), BooleanClause.Occur.FILTER);
+        }
+        if (search.categoryId() != null) {
+            query.add(LongPoint.newExactQuery(CATEGORY, search.categoryId()), BooleanClause.Occur.FILTER);
+        }
+        if (search.startDate() != null) {
+            query.add(LongPoint.newRangeQuery(START, toMicros(search.startDate()), Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        if (search.endDate() != null) {
+            query.add(LongPoint.newRangeQuery(END, Long.MIN_VALUE, toMicros(search.endDate())), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Sort toSort(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return Sort.RELEVANCE;
+        }
+        List<SortField> fields = new ArrayList<>();
+        for (var property : pageable.getSort()) {
+            String field = SORTABLE.get(property.getProperty());
+            if (field == null) {
+                return null;
+            }
+            fields.add(new SortField(field, SortField.Type.LONG, property.isDescending()));
+        }
+        if (fields.stream().noneMatch(field -> AUCTION_ID.equals(field.getField()))) {
+            fields.add(new SortField(AUCTION_ID, SortField.Type.LONG));
+        }
+        return new Sort(fields.toArray(SortField[]::new));
+    }
+
+    // The auction id already makes the sort values unique, so the doc only has to rule out the cursor itself
+    private static FieldDoc afterCursor(IndexSearcher searcher, LocalDateTime afterEndDateTime, Long afterId) {
+        return new FieldDoc(searcher.getIndexReader().maxDoc() - 1, Float.NaN,
+                new Object[] { toMicros(afterEndDateTime), afterId });
+    }
+
+    private static List<Long> auctionIds(IndexSearcher searcher, ScoreDoc[] hits, int from) throws IOException {
+        List<Long> ids = new ArrayList<>(Math.max(0, hits.length - from));
+        for (int i = from; i < hits.length; i++) {
+            ids.add(Long.valueOf(searcher.storedFields().document(hits[i].doc, Set.of(ID)).get(ID)));
+        }
+        return ids;
+    }
+
+    private static void addDate(Document document, String field, LocalDateTime dateTime) {
+        if (dateTime != null) {
+            long micros = toMicros(dateTime);
+            document.add(new LongPoint(field, micros));
+            document.add(new NumericDocValuesField(field, micros));
+        }
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private Query termQuery(String term, boolean prefix) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        query.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        query.add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+        if (prefix) {
+            query.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+            query.add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Term idTerm(Long auctionId) {
+        return new Term(ID, auctionId.toString());
+    }
+
+    private static final class AuctionIdCollectorManager implements CollectorManager<AuctionIdCollector, long[]> {
+
+        @Override
+        public AuctionIdCollector newCollector() {
+            return new AuctionIdCollector();
+        }
+
+        @Override
+        public long[] reduce(Collection<AuctionIdCollector> collectors) {
+            int total = 0;
+            for (AuctionIdCollector collector : collectors) {
+                total += collector.size;
+            }
+            long[] ids = new long[total];
+            int offset = 0;
+            for (AuctionIdCollector collector : collectors) {
+                System.arraycopy(collector.ids, 0, ids, offset, collector.size);
+                offset += collector.size;
+            }
+            return ids;
+        }
+    }
+
+    private static final class AuctionIdCollector extends SimpleCollector {
+        private long[] ids = new long[64];
+        private int size;
+        private NumericDocValues values;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            values = DocValues.getNumeric(context.reader(), AUCTION_ID);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (values.advanceExact(doc)) {
+                ids = ArrayUtil.grow(ids, size + 1);
+                ids[size++] = values.longValue();
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionSummaryDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+public class AuctionSearchIndexer implements AuctionEventSubscriber {
+
+    private final AuctionSearchIndex searchIndex;
+    private final AuctionRepository auctionRepository;
+    private final int batchSize;
+    private final boolean rebuildOnStartup;
+    private final Duration catchUpOverlap;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean ready;
+    private LocalDateTime caughtUpTo = LocalDateTime.now();
+
+    public AuctionSearchIndexer(
+            AuctionSearchIndex searchIndex,
+            AuctionRepository auctionRepository,
+            @Value("${app.search.rebuild-batch-size:1000}") int batchSize,
+            @Value("${app.search.rebuild-on-startup:false}") boolean rebuildOnStartup,
+            @Value("${app.search.catch-up-overlap-ms:60000}") long catchUpOverlapMillis) {
+        this.searchIndex = searchIndex;
+        this.auctionRepository = auctionRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.catchUpOverlap = Duration.ofMillis(catchUpOverlapMillis);
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!searchIndex.isEnabled()) {
+            return;
+        }
+        if (rebuildOnStartup || searchIndex.size() == 0 || !searchIndex.isCurrentSchema()) {
+            rebuildAsync();
+        } else {
+            ready = true;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.search.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        if (searchIndex.isEnabled() && ready && !startRebuild()) {
+            log.debug("Skipping scheduled search index rebuild, one is already running");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.search.catch-up-interval-ms:10000}",
+            fixedDelayString = "${app.search.catch-up-interval-ms:10000}")
+    public void catchUp() {
+        if (!searchIndex.isEnabled() || !ready || rebuilding.get()) {
+            return;
+        }
+        // Auctions are also written on other nodes, so re-read recent changes from the table; the overlap
+        // covers transactions that committed late and clock skew between nodes
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = caughtUpTo.minus(catchUpOverlap);
+        LocalDateTime afterUpdatedAt = null;
+        Long afterId = null;
+        long indexed = 0;
+        List<Object[]> changed;
+        do {
+            changed = auctionRepository.findUpdatedSince(since, afterUpdatedAt, afterId, PageRequest.of(0, batchSize));
+            if (changed.isEmpty()) {
+                break;
+            }
+            List<Long> ids = changed.stream().map(row -> (Long) row[0]).toList();
+            for (AuctionSummaryDTO auction : auctionRepository.findSummariesByIdsAndFilters(
+                    ids, null, null, null, null, Pageable.unpaged())) {
+                index(auction);
+            }
+            Object[] last = changed.get(changed.size() - 1);
+            afterUpdatedAt = (LocalDateTime) last[1];
+            afterId = (Long) last[0];
+            indexed += ids.size();
+        } while (changed.size() == batchSize);
+        caughtUpTo = started;
+        if (indexed > 0) {
+            log.debug("Search index caught up with {} auctions changed since {}", indexed, since);
+        }
+    }
+
+    public void rebuildAsync() {
+        if (!searchIndex.isEnabled()) {
+            throw new BusinessException("Auction search index is disabled");
+        }
+        if (!startRebuild()) {
+            throw new BusinessException("Auction search index rebuild is already running");
+        }
+    }
+
+    private boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Auction search index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        long generation = searchIndex.startGeneration();
+        LocalDateTime afterEndDateTime = null;
+        Long afterId = null;
+        long indexed = 0;
+        List<AuctionSummaryDTO> batch;
+        do {
+            batch = auctionRepository.findSummariesByFiltersAfter(
+                    null, null, null, null, null, afterEndDateTime, afterId, PageRequest.of(0, batchSize));
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                AuctionSummaryDTO last = batch.get(batch.size() - 1);
+                afterEndDateTime = last.getEndDateTime();
+                afterId = last.getId();
+                indexed += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        searchIndex.finishGeneration(generation);
+        ready = true;
+        log.info("Rebuilt auction search index with {} auctions in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    private void index(AuctionSummaryDTO auction) {
+        searchIndex.index(auction.getId(), auction.getTitle(), auction.getDescription(),
+                auction.getStatus(), auction.getCategoryId(), auction.getStartDateTime(), auction.getEndDateTime());
+    }
+
+    public void indexAfterCommit(Auction auction) {
+        if (!searchIndex.isEnabled()) {
+            return;
+        }
+        Long auctionId = auction.getId();
+        String title = auction.getTitle();
+        String description = auction.getDescription();
+        AuctionStatus status = auction.getStatus();
+        Long categoryId = auction.getCategory() != null ? auction.getCategory().getId() : null;
+        LocalDateTime startDateTime = auction.getStartDateTime();
+        LocalDateTime endDateTime = auction.getEndDateTime();
+        afterCommit(() -> searchIndex.index(auctionId, title, description, status, categoryId,
+                startDateTime, endDateTime));
+    }
+
+    public void removeAfterCommit(Long auctionId) {
+        if (searchIndex.isEnabled()) {
+            afterCommit(() -> searchIndex.delete(auctionId));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "search-index";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        if (searchIndex.isEnabled() && event.getType() == AuctionEventType.STATUS
+                && event.getPayload() instanceof AuctionStatusUpdateDTO update && update.getStatus() != null) {
+            searchIndex.updateStatus(event.getAuctionId(), update.getStatus());
+        }
+    }
+
+    @Override
+    public void onEventsLost(long count) {
+        log.warn("Search index missed {} auction events; statuses are corrected by the next catch-up", count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
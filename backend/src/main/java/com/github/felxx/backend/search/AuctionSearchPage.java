@@ -0,0 +1,6 @@
+package com.github.felxx.backend.search;
+
+import java.util.List;
+
+public record AuctionSearchPage(List<Long> ids, long total) {
+}
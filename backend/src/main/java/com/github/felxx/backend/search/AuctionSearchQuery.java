@@ -0,0 +1,13 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.model.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+public record AuctionSearchQuery(
+        String text,
+        AuctionStatus status,
+        Long categoryId,
+        LocalDateTime startDate,
+        LocalDateTime endDate) {
+}
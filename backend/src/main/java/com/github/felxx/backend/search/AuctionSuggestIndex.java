@@ -0,0 +1,366 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionSuggestionDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+public class AuctionSuggestIndex implements AuctionEventSubscriber {
+
+    private static final String AUCTION = "AUCTION";
+    private static final String CATEGORY = "CATEGORY";
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparing((Entry entry) -> !CATEGORY.equals(entry.type))
+            .thenComparing(Comparator.comparingInt((Entry entry) -> entry.score).reversed())
+            .thenComparingInt(entry -> entry.text.length())
+            .thenComparing(entry -> entry.text);
+
+    private final AuctionRepository auctionRepository;
+    private final CategoryRepository categoryRepository;
+    private final int maxResults;
+
+    private final NavigableMap<String, Entry> prefixes = new ConcurrentSkipListMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Best maxResults entries per queried prefix, in RANKING order. A prefix without a list is ranked from
+    // the sorted keys on its next read; a full list that loses a member is dropped because the entry that
+    // should replace it is not known. Lists are replaced, never modified, so readers need no lock.
+    private final Map<String, Entry[]> topByPrefix = new ConcurrentHashMap<>();
+
+    public AuctionSuggestIndex(
+            AuctionRepository auctionRepository,
+            CategoryRepository categoryRepository,
+            @Value("${app.suggest.max-results:20}") int maxResults) {
+        this.auctionRepository = auctionRepository;
+        this.categoryRepository = categoryRepository;
+        this.maxResults = Math.max(1, maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = resync();
+        log.info("Suggest index loaded with {} open auctions and {} prefixes", loaded, prefixes.size());
+    }
+
+    // Auctions opened, closed or renamed on other nodes never reach this node as events
+    @Scheduled(initialDelayString = "${app.suggest.resync-interval-ms:60000}",
+            fixedDelayString = "${app.suggest.resync-interval-ms:60000}")
+    public void scheduledResync() {
+        int loaded = resync();
+        log.debug("Suggest index resynced with {} open auctions", loaded);
+    }
+
+    private int resync() {
+        // Entries added after this snapshot may be newer than the rows read below, so they are kept
+        Set<String> stale = new HashSet<>(entries.keySet());
+        for (Category category : categoryRepository.findAll()) {
+            putCategory(category.getId(), category.getName());
+            stale.remove(CATEGORY + category.getId());
+        }
+        List<Object[]> open = auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN);
+        for (Object[] row : open) {
+            putAuction((Long) row[0], (String) row[1], (Integer) row[2]);
+            stale.remove(AUCTION + row[0]);
+        }
+        stale.forEach(this::remove);
+        return open.size();
+    }
+
+    public List<AuctionSuggestionDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Entry[] top = topByPrefix.get(prefix);
+        if (top == null) {
+            top = rank(prefix);
+        }
+        return Arrays.stream(top)
+                .limit(Math.min(limit, maxResults))
+                .map(entry -> new AuctionSuggestionDTO(entry.type, entry.id, entry.text))
+                .collect(Collectors.toList());
+    }
+
+    public void putAuction(Long auctionId, String title, Integer bidCount) {
+        put(new Entry(AUCTION, auctionId, title, bidCount != null ? bidCount : 0));
+    }
+
+    public void removeAuction(Long auctionId) {
+        remove(AUCTION + auctionId);
+    }
+
+    public void putCategory(Long categoryId, String name) {
+        put(new Entry(CATEGORY, categoryId, name, 0));
+    }
+
+    public void removeCategory(Long categoryId) {
+        remove(CATEGORY + categoryId);
+    }
+
+    public void putAfterCommit(Auction auction) {
+        Long auctionId = auction.getId();
+        String title = auction.getTitle();
+        Integer bidCount = auction.getBidCount();
+        boolean open = auction.getStatus() == AuctionStatus.OPEN;
+        afterCommit(() -> {
+            if (open) {
+                putAuction(auctionId, title, bidCount);
+            } else {
+                removeAuction(auctionId);
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long auctionId) {
+        afterCommit(() -> removeAuction(auctionId));
+    }
+
+    public void putCategoryAfterCommit(Category category) {
+        Long categoryId = category.getId();
+        String name = category.getName();
+        afterCommit(() -> putCategory(categoryId, name));
+    }
+
+    public void removeCategoryAfterCommit(Long categoryId) {
+        afterCommit(() -> removeCategory(categoryId));
+    }
+
+    @Override
+    public String getName() {
+        return "suggest-index";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        if (event.getType() == AuctionEventType.BID && event.getPayload() instanceof BidNotificationDTO bid) {
+            if (bid.getTotalBids() != null) {
+                rescore(AUCTION + event.getAuctionId(), bid.getTotalBids());
+            }
+        } else if (event.getType() == AuctionEventType.STATUS
+                && event.getPayload() instanceof AuctionStatusUpdateDTO update) {
+            if (update.getStatus() == AuctionStatus.OPEN) {
+                auctionRepository.findSuggestRowById(event.getAuctionId())
+                        .forEach(row -> putAuction((Long) row[0], (String) row[1], (Integer) row[2]));
+            } else {
+                removeAuction(event.getAuctionId());
+            }
+        }
+    }
+
+    @Override
+    public void onEventsLost(long count) {
+        log.warn("Suggest index missed {} auction events, reloading", count);
+        resync();
+    }
+
+    private synchronized Entry[] rank(String prefix) {
+        Entry[] top = topByPrefix.get(prefix);
+        if (top != null) {
+            return top;
+        }
+        Set<Entry> matches = new LinkedHashSet<>(
+                prefixes.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+        top = matches.stream().sorted(RANKING).limit(maxResults).toArray(Entry[]::new);
+        // Prefixes nothing starts with are not cached, so arbitrary queries cannot grow the map
+        if (top.length > 0) {
+            topByPrefix.put(prefix, top);
+        }
+        return top;
+    }
+
+    private synchronized void put(Entry entry) {
+        Entry previous = entries.get(entry.key());
+        if (previous != null && previous.text.equals(entry.text)) {
+            // Resyncs re-put every open auction, so unchanged titles only have their score refreshed
+            rescore(previous, entry.score);
+            return;
+        }
+        entries.put(entry.key(), entry);
+        if (previous != null) {
+            unlink(previous);
+        }
+        for (String key : entry.prefixKeys) {
+            prefixes.put(key, entry);
+        }
+        for (String prefix : entry.rankedPrefixes()) {
+            Entry[] top = topByPrefix.get(prefix);
+            if (top != null) {
+                offer(prefix, top, entry);
+            }
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    private synchronized void rescore(String key, int score) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            rescore(entry, score);
+        }
+    }
+
+    private void rescore(Entry entry, int score) {
+        if (entry.score == score) {
+            return;
+        }
+        boolean raised = score > entry.score;
+        entry.score = score;
+        for (String prefix : entry.rankedPrefixes()) {
+            Entry[] top = topByPrefix.get(prefix);
+            if (top == null) {
+                continue;
+            }
+            if (raised) {
+                offer(prefix, top, entry);
+            } else if (indexOf(top, entry) >= 0) {
+                if (top.length == maxResults) {
+                    topByPrefix.remove(prefix);
+                } else {
+                    topByPrefix.put(prefix, sorted(top.clone()));
+                }
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (String key : entry.prefixKeys) {
+            prefixes.remove(key, entry);
+        }
+        for (String prefix : entry.rankedPrefixes()) {
+            Entry[] top = topByPrefix.get(prefix);
+            int index = top != null ? indexOf(top, entry) : -1;
+            if (index < 0) {
+                continue;
+            }
+            if (top.length == maxResults || top.length == 1) {
+                topByPrefix.remove(prefix);
+            } else {
+                Entry[] shrunk = new Entry[top.length - 1];
+                System.arraycopy(top, 0, shrunk, 0, index);
+                System.arraycopy(top, index + 1, shrunk, index, top.length - index - 1);
+                topByPrefix.put(prefix, shrunk);
+            }
+        }
+    }
+
+    private void offer(String prefix, Entry[] top, Entry entry) {
+        Entry[] updated;
+        if (indexOf(top, entry) >= 0) {
+            updated = top.clone();
+        } else if (top.length < maxResults) {
+            updated = Arrays.copyOf(top, top.length + 1);
+            updated[top.length] = entry;
+        } else if (RANKING.compare(entry, top[top.length - 1]) < 0) {
+            updated = top.clone();
+            updated[top.length - 1] = entry;
+        } else {
+            return;
+        }
+        topByPrefix.put(prefix, sorted(updated));
+    }
+
+    private static Entry[] sorted(Entry[] top) {
+        Arrays.sort(top, RANKING);
+        return top;
+    }
+
+    private static int indexOf(Entry[] top, Entry entry) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_WORD.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static final class Entry {
+        private final String type;
+        private final Long id;
+        private final String text;
+        private final List<String> prefixKeys;
+        private volatile int score;
+
+        private Entry(String type, Long id, String text, int score) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.score = score;
+            this.prefixKeys = new ArrayList<>();
+            String normalized = normalize(text);
+            int start = 0;
+            while (start < normalized.length()) {
+                prefixKeys.add(normalized.substring(start) + KEY_SEPARATOR + type + id);
+                int space = normalized.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+
+        private String key() {
+            return type + id;
+        }
+
+        // Every prefix of every word-start suffix, i.e. every query this entry is suggested for
+        private Set<String> rankedPrefixes() {
+            Set<String> ranked = new HashSet<>();
+            for (String key : prefixKeys) {
+                int end = key.indexOf(KEY_SEPARATOR);
+                for (int length = 1; length <= end; length++) {
+                    ranked.add(key.substring(0, length));
+                }
+            }
+            return ranked;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.SequencedEvent;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+public class AuctionEventLog {
+
+    private final AuctionEventBus eventBus;
+    private final int capacity;
+    private final long retentionMillis;
+
+    private final Map<Long, EventRing> rings = new ConcurrentHashMap<>();
+
+    public AuctionEventLog(
+            AuctionEventBus eventBus,
+            @Value("${app.websocket.event-log.capacity:256}") int capacity,
+            @Value("${app.websocket.event-log.retention-ms:600000}") long retentionMillis) {
+        this.eventBus = eventBus;
+        this.capacity = Math.max(1, capacity);
+        this.retentionMillis = retentionMillis;
+    }
+
+    public void publish(Long auctionId, AuctionEventType type, SequencedEvent event) {
+        append(auctionId, type, event);
+    }
+
+    public void publishAfterCommit(Long auctionId, AuctionEventType type, SequencedEvent event) {
+        afterCommit(() -> append(auctionId, type, event));
+    }
+
+    // Unknown ids, including ones that do not exist at all, get 0 instead of a ring of their own;
+    // a client resuming from 0 simply receives a fresh snapshot
+    public long currentSequence(Long auctionId) {
+        EventRing ring = rings.get(auctionId);
+        if (ring == null) {
+            return 0L;
+        }
+        synchronized (ring) {
+            ring.lastActivity = System.currentTimeMillis();
+            return ring.sequence;
+        }
+    }
+
+    public long lastSequence(Long auctionId) {
+        EventRing ring = rings.get(auctionId);
+        if (ring == null) {
+            return 0L;
+        }
+        synchronized (ring) {
+            return ring.sequence;
+        }
+    }
+
+    public Optional<List<AuctionEventDTO>> since(Long auctionId, long sequence) {
+        EventRing ring = rings.get(auctionId);
+        if (ring == null) {
+            return Optional.empty();
+        }
+        synchronized (ring) {
+            return ring.since(sequence);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.event-log.retention-ms:600000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        rings.values().removeIf(ring -> {
+            synchronized (ring) {
+                return ring.lastActivity < cutoff;
+            }
+        });
+    }
+
+    private void append(Long auctionId, AuctionEventType type, SequencedEvent event) {
+        EventRing ring = rings.computeIfAbsent(auctionId, id -> new EventRing(capacity));
+        synchronized (ring) {
+            long sequence = ++ring.sequence;
+            event.setSequence(sequence);
+            ring.add(new AuctionEventDTO(sequence, type, event));
+            eventBus.publish(new AuctionEvent(auctionId, type, event, System.nanoTime()));
+        }
+    }
+
+    private static class EventRing {
+        private final AuctionEventDTO[] events;
+        private long sequence;
+        private int size;
+        private long lastActivity;
+
+        private EventRing(int capacity) {
+            this.events = new AuctionEventDTO[capacity];
+            this.lastActivity = System.currentTimeMillis();
+            this.sequence = lastActivity * 1000;
+        }
+
+        private void add(AuctionEventDTO event) {
+            events[(int) (event.getSequence() % events.length)] = event;
+            size = Math.min(size + 1, events.length);
+            lastActivity = System.currentTimeMillis();
+        }
+
+        private Optional<List<AuctionEventDTO>> since(long from) {
+            long oldest = sequence - size + 1;
+            if (from > sequence || from < oldest - 1) {
+                return Optional.empty();
+            }
+            List<AuctionEventDTO> missed = new ArrayList<>((int) (sequence - from));
+            for (long next = from + 1; next <= sequence; next++) {
+                missed.add(events[(int) (next % events.length)]);
+            }
+            lastActivity = System.currentTimeMillis();
+            return Optional.of(missed);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionExtendedDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.scheduling.HashedTimingWheel;
+import com.github.felxx.backend.scheduling.ShardLeaseManager;
+import com.github.felxx.backend.scheduling.ShardOwnershipChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Service
+public class AuctionLifecycleService {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionOrderBook orderBook;
+    private final BidAdmissionLocks admissionLocks;
+    private final AuctionEventLog eventLog;
+    private final TransactionTemplate transactionTemplate;
+    private final AuctionStatusPublisher statusPublisher;
+    private final ShardLeaseManager leaseManager;
+    private final Duration softCloseWindow;
+    private final Duration softCloseExtension;
+    private final int batchSize;
+    private final int closeLockBatchSize;
+    private final long retryDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final Duration sweepHorizon;
+    private final Map<Long, Retry> retries = new ConcurrentHashMap<>();
+    private final ExecutorService transitionExecutor;
+    private final HashedTimingWheel<Long, AuctionStatus> wheel;
+    private final Timer lagTimer;
+
+    public AuctionLifecycleService(
+            AuctionRepository auctionRepository,
+            AuctionOrderBook orderBook,
+            BidAdmissionLocks admissionLocks,
+            AuctionEventLog eventLog,
+            TransactionTemplate transactionTemplate,
+            AuctionStatusPublisher statusPublisher,
+            ShardLeaseManager leaseManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.auction.soft-close.window-seconds:0}") long windowSeconds,
+            @Value("${app.auction.soft-close.extension-seconds:120}") long extensionSeconds,
+            @Value("${app.auction.lifecycle.tick-ms:10}") long tickMillis,
+            @Value("${app.auction.lifecycle.wheel-size:4096}") int wheelSize,
+            @Value("${app.auction.lifecycle.batch-size:1000}") int batchSize,
+            @Value("${app.auction.lifecycle.close-lock-batch-size:32}") int closeLockBatchSize,
+            @Value("${app.auction.lifecycle.retry-delay-ms:1000}") long retryDelayMillis,
+            @Value("${app.auction.lifecycle.retry-max-delay-ms:60000}") long retryMaxDelayMillis,
+            @Value("${app.auction.lifecycle.sweep-interval-ms:30000}") long sweepIntervalMillis) {
+        this.auctionRepository = auctionRepository;
+        this.orderBook = orderBook;
+        this.admissionLocks = admissionLocks;
+        this.eventLog = eventLog;
+        this.transactionTemplate = transactionTemplate;
+        this.statusPublisher = statusPublisher;
+        this.leaseManager = leaseManager;
+        this.softCloseWindow = Duration.ofSeconds(windowSeconds);
+        this.softCloseExtension = Duration.ofSeconds(extensionSeconds);
+        this.batchSize = Math.max(1, batchSize);
+        this.closeLockBatchSize = Math.max(1, closeLockBatchSize);
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+        this.retryMaxDelayMillis = Math.max(this.retryDelayMillis, retryMaxDelayMillis);
+        this.sweepHorizon = Duration.ofMillis(sweepIntervalMillis * 2);
+        this.transitionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-lifecycle-transitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The wheel thread only hands expired deadlines over, so database work never delays its ticks
+        this.wheel = new HashedTimingWheel<>("auction-lifecycle", tickMillis, wheelSize,
+                expired -> transitionExecutor.execute(() -> onDeadlines(expired)));
+        this.lagTimer = Timer.builder("auctions.lifecycle.lag")
+                .description("Atraso entre o prazo e a transição de status do leilão")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auctions.lifecycle.pending", wheel, HashedTimingWheel::size)
+                .description("Quantidade de transições de leilão agendadas")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel.start();
+    }
+
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        Set<Integer> released = event.getReleased();
+        if (!released.isEmpty()) {
+            wheel.cancelIf(auctionId -> released.contains(leaseManager.shardOf(auctionId)));
+            retries.keySet().removeIf(auctionId -> released.contains(leaseManager.shardOf(auctionId)));
+        }
+        if (!event.getAcquired().isEmpty()) {
+            int loaded = scheduleAll(auctionRepository.findLifecycleDeadlines(
+                    List.of(AuctionStatus.SCHEDULED, AuctionStatus.OPEN),
+                    leaseManager.getShardCount(),
+                    event.getAcquired()));
+            log.info("Loaded {} auction deadlines for scheduler shards {}", loaded, event.getAcquired());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.auction.lifecycle.sweep-interval-ms:30000}",
+            fixedDelayString = "${app.auction.lifecycle.sweep-interval-ms:30000}")
+    public void sweep() {
+        Set<Integer> shards = leaseManager.ownedShards();
+        if (shards.isEmpty()) {
+            return;
+        }
+        scheduleAll(auctionRepository.findLifecycleDeadlinesBefore(
+                leaseManager.getShardCount(),
+                shards,
+                AuctionStatus.SCHEDULED,
+                AuctionStatus.OPEN,
+                LocalDateTime.now().plus(sweepHorizon)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+        transitionExecutor.shutdownNow();
+    }
+
+    public void onBid(Auction auction, LocalDateTime bidDateTime) {
+        if (softCloseWindow.isZero()) {
+            return;
+        }
+        LocalDateTime previousEnd = auction.getEndDateTime();
+        if (bidDateTime.isBefore(previousEnd.minus(softCloseWindow))) {
+            return;
+        }
+        LocalDateTime extendedEnd = bidDateTime.plus(softCloseExtension);
+        if (!extendedEnd.isAfter(previousEnd)) {
+            return;
+        }
+
+        auction.setEndDateTime(extendedEnd);
+        log.info("Soft close extended auction {} from {} to {}", auction.getId(), previousEnd, extendedEnd);
+
+        AuctionExtendedDTO extended = new AuctionExtendedDTO(
+                auction.getId(),
+                auction.getStatus(),
+                "EXTENDED",
+                previousEnd,
+                extendedEnd,
+                LocalDateTime.now(),
+                null
+        );
+        afterCommit(() -> schedule(auction.getId(), AuctionStatus.CLOSED, extendedEnd));
+        eventLog.publishAfterCommit(auction.getId(), AuctionEventType.STATUS, extended);
+    }
+
+    public void track(Auction auction) {
+        Long auctionId = auction.getId();
+        if (auction.getStatus() == AuctionStatus.SCHEDULED) {
+            LocalDateTime startDateTime = auction.getStartDateTime();
+            afterCommit(() -> schedule(auctionId, AuctionStatus.OPEN, startDateTime));
+        } else if (auction.getStatus() == AuctionStatus.OPEN) {
+            LocalDateTime endDateTime = auction.getEndDateTime();
+            afterCommit(() -> schedule(auctionId, AuctionStatus.CLOSED, endDateTime));
+        } else {
+            untrack(auctionId);
+        }
+    }
+
+    public void untrack(Long auctionId) {
+        afterCommit(() -> {
+            wheel.cancel(auctionId);
+            retries.remove(auctionId);
+        });
+    }
+
+    private int scheduleAll(List<Object[]> deadlines) {
+        for (Object[] row : deadlines) {
+            Long auctionId = (Long) row[0];
+            if (row[1] == AuctionStatus.SCHEDULED) {
+                schedule(auctionId, AuctionStatus.OPEN, (LocalDateTime) row[2]);
+            } else {
+                schedule(auctionId, AuctionStatus.CLOSED, (LocalDateTime) row[3]);
+            }
+        }
+        return deadlines.size();
+    }
+
+    private void schedule(Long auctionId, AuctionStatus target, LocalDateTime deadline) {
+        if (leaseManager.owns(auctionId)) {
+            long deadlineMillis = toEpochMillis(deadline);
+            Retry retry = retries.get(auctionId);
+            if (retry != null && retry.target() == target) {
+                deadlineMillis = Math.max(deadlineMillis, retry.notBeforeMillis());
+            }
+            wheel.schedule(auctionId, target, deadlineMillis);
+        }
+    }
+
+    private void onDeadlines(List<HashedTimingWheel.Timeout<Long, AuctionStatus>> expired) {
+        long now = System.currentTimeMillis();
+        Map<Integer, List<Long>> toOpen = new TreeMap<>();
+        Map<Integer, List<Long>> toClose = new TreeMap<>();
+        for (HashedTimingWheel.Timeout<Long, AuctionStatus> timeout : expired) {
+            lagTimer.record(Math.max(0, now - timeout.getDeadlineMillis()), TimeUnit.MILLISECONDS);
+            Long auctionId = timeout.getKey();
+            (timeout.getValue() == AuctionStatus.OPEN ? toOpen : toClose)
+                    .computeIfAbsent(leaseManager.shardOf(auctionId), shard -> new ArrayList<>())
+                    .add(auctionId);
+        }
+
+        toOpen.forEach((shard, auctionIds) -> {
+            auctionIds.sort(null);
+            for (int from = 0; from < auctionIds.size(); from += batchSize) {
+                List<Long> batch = auctionIds.subList(from, Math.min(from + batchSize, auctionIds.size()));
+                try {
+                    open(shard, batch);
+                    batch.forEach(retries::remove);
+                } catch (RuntimeException e) {
+                    log.warn("Could not open {} auctions, retrying with backoff", batch.size(), e);
+                    retry(batch, AuctionStatus.OPEN);
+                }
+            }
+        });
+        toClose.forEach((shard, auctionIds) -> {
+            auctionIds.sort(null);
+            // Closing holds the admission locks of every auction in the batch, so keep it small enough
+            // that bids on unrelated auctions are not queued behind it
+            for (int from = 0; from < auctionIds.size(); from += closeLockBatchSize) {
+                List<Long> batch = auctionIds.subList(from, Math.min(from + closeLockBatchSize, auctionIds.size()));
+                try {
+                    close(shard, batch);
+                    batch.forEach(retries::remove);
+                } catch (RuntimeException e) {
+                    log.warn("Could not close {} auctions, retrying with backoff", batch.size(), e);
+                    retry(batch, AuctionStatus.CLOSED);
+                }
+            }
+        });
+    }
+
+    private void open(int shard, List<Long> auctionIds) {
+        Long minId = auctionIds.get(0);
+        Long maxId = auctionIds.get(auctionIds.size() - 1);
+        List<Object[]> opened = transactionTemplate.execute(status -> {
+            if (!leaseManager.fence(shard)) {
+                return List.<Object[]>of();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> due = new ArrayList<>();
+            for (Object[] row : auctionRepository.findDeadlinesInRange(minId, maxId, auctionIds, AuctionStatus.SCHEDULED)) {
+                if (((LocalDateTime) row[1]).isAfter(now)) {
+                    schedule((Long) row[0], AuctionStatus.OPEN, (LocalDateTime) row[1]);
+                } else {
+                    due.add(row);
+                }
+            }
+            if (!due.isEmpty()) {
+                List<Long> dueIds = due.stream().map(row -> (Long) row[0]).toList();
+                int updated = auctionRepository.openStartedInRange(
+                        minId, maxId, dueIds, AuctionStatus.SCHEDULED, AuctionStatus.OPEN, now);
+                verifyTransition("open", dueIds.size(), updated);
+            }
+            return due;
+        });
+        if (opened.isEmpty()) {
+            return;
+        }
+
+        List<Long> openedIds = new ArrayList<>(opened.size());
+        for (Object[] row : opened) {
+            Long auctionId = (Long) row[0];
+            schedule(auctionId, AuctionStatus.CLOSED, (LocalDateTime) row[2]);
+            openedIds.add(auctionId);
+        }
+        log.info("Opened {} auctions in id range {}-{}", openedIds.size(), minId, maxId);
+        statusPublisher.publish(AuctionStatus.OPEN, openedIds);
+    }
+
+    private void close(int shard, List<Long> auctionIds) {
+        Long minId = auctionIds.get(0);
+        Long maxId = auctionIds.get(auctionIds.size() - 1);
+        List<Long> closed = admissionLocks.withLocks(auctionIds, () -> transactionTemplate.execute(status -> {
+            if (!leaseManager.fence(shard)) {
+                return List.<Long>of();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> due = new ArrayList<>();
+            for (Object[] row : auctionRepository.findDeadlinesInRange(minId, maxId, auctionIds, AuctionStatus.OPEN)) {
+                if (((LocalDateTime) row[2]).isAfter(now)) {
+                    schedule((Long) row[0], AuctionStatus.CLOSED, (LocalDateTime) row[2]);
+                } else {
+                    due.add((Long) row[0]);
+                }
+            }
+            if (!due.isEmpty()) {
+                int updated = auctionRepository.closeEndedInRange(
+                        minId, maxId, due, AuctionStatus.OPEN, AuctionStatus.CLOSED, now);
+                verifyTransition("close", due.size(), updated);
+            }
+            return due;
+        }));
+        if (closed.isEmpty()) {
+            return;
+        }
+
+        closed.forEach(orderBook::evict);
+        log.info("Closed {} auctions in id range {}-{}", closed.size(), minId, maxId);
+        statusPublisher.publish(AuctionStatus.CLOSED, closed);
+    }
+
+    private void verifyTransition(String action, int expected, int updated) {
+        if (updated != expected) {
+            throw new IllegalStateException("Expected to " + action + " " + expected + " auctions but updated " + updated);
+        }
+    }
+
+    private void retry(Collection<Long> auctionIds, AuctionStatus target) {
+        long now = System.currentTimeMillis();
+        for (Long auctionId : auctionIds) {
+            if (!leaseManager.owns(auctionId)) {
+                retries.remove(auctionId);
+                continue;
+            }
+            Retry retry = retries.compute(auctionId, (id, previous) -> {
+                int attempts = previous == null || previous.target() != target ? 1 : previous.attempts() + 1;
+                return new Retry(target, attempts, now + retryDelay(attempts));
+            });
+            long delay = retryDelay(retry.attempts());
+            if (delay == retryMaxDelayMillis && retryDelay(retry.attempts() - 1) < delay) {
+                log.error("Auction {} still failing to {} after {} attempts, retrying every {} ms",
+                        auctionId, target, retry.attempts(), retryMaxDelayMillis);
+            }
+            wheel.schedule(auctionId, target, retry.notBeforeMillis());
+        }
+    }
+
+    private long retryDelay(int attempts) {
+        if (attempts <= 0) {
+            return 0;
+        }
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(retryMaxDelayMillis, retryDelayMillis << shift);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Retry(AuctionStatus target, int attempts, long notBeforeMillis) {
+    }
+}
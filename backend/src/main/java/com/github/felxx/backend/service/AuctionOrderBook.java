@@ -0,0 +1,84 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionOrderBook {
+
+    private final AuctionRepository auctionRepository;
+
+    private final Map<Long, OrderBookEntry> entries = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Object[]> rows = auctionRepository.findBidTotalsByStatus(AuctionStatus.OPEN);
+        for (Object[] row : rows) {
+            entries.putIfAbsent((Long) row[0], toEntry(row));
+        }
+        log.info("Order book loaded for {} open auctions", rows.size());
+    }
+
+    public OrderBookEntry get(Long auctionId) {
+        OrderBookEntry entry = entries.get(auctionId);
+        if (entry != null) {
+            return entry;
+        }
+        OrderBookEntry loaded = load(auctionId);
+        OrderBookEntry raced = entries.putIfAbsent(auctionId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    public OrderBookEntry record(Bid bid) {
+        Long auctionId = bid.getAuction().getId();
+        OrderBookEntry updated = get(auctionId).withBid(bid.getId(), bid.getAmount(), bid.getBidder().getId());
+        entries.put(auctionId, updated);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        evict(auctionId);
+                    }
+                }
+            });
+        }
+        return updated;
+    }
+
+    public void evict(Long auctionId) {
+        entries.remove(auctionId);
+    }
+
+    private OrderBookEntry load(Long auctionId) {
+        List<Object[]> rows = auctionRepository.findBidTotals(auctionId);
+        return rows.isEmpty() ? OrderBookEntry.EMPTY : toEntry(rows.get(0));
+    }
+
+    private static OrderBookEntry toEntry(Object[] row) {
+        if (row[1] == null) {
+            return OrderBookEntry.EMPTY;
+        }
+        return new OrderBookEntry(
+                (Float) row[1],
+                row[2] != null ? (Integer) row[2] : 0,
+                (Long) row[3],
+                (Long) row[4]
+        );
+    }
+}
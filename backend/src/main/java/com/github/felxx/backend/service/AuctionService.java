@@ -3,20 +3,24 @@ package com.github.felxx.backend.service;
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.github.felxx.backend.dto.auction.AuctionCursorPageDTO;
 import com.github.felxx.backend.dto.auction.AuctionDetailDTO;
 import com.github.felxx.backend.dto.auction.AuctionRequestDTO;
 import com.github.felxx.backend.dto.auction.AuctionResponseDTO;
+import com.github.felxx.backend.dto.auction.AuctionSummaryDTO;
 import com.github.felxx.backend.dto.auction.PublicAuctionResponseDTO;
-import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.dto.websocket.AuctionResumeDTO;
+import com.github.felxx.backend.dto.websocket.AuctionSnapshotDTO;
 import com.github.felxx.backend.exception.NotFoundException;
 import com.github.felxx.backend.model.Auction;
 import com.github.felxx.backend.model.AuctionStatus;
@@ -28,14 +32,25 @@ import com.github.felxx.backend.repository.AuctionRepository;
 import com.github.felxx.backend.repository.BidRepository;
 import com.github.felxx.backend.repository.CategoryRepository;
 import com.github.felxx.backend.repository.FeedbackRepository;
+import com.github.felxx.backend.repository.ImageRepository;
 import com.github.felxx.backend.repository.PersonRepository;
+import com.github.felxx.backend.search.AuctionFacetIndex;
+import com.github.felxx.backend.search.AuctionSearchIndex;
+import com.github.felxx.backend.search.AuctionSearchIndexer;
+import com.github.felxx.backend.search.AuctionSearchPage;
+import com.github.felxx.backend.search.AuctionSearchQuery;
+import com.github.felxx.backend.search.AuctionSuggestIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -44,57 +59,24 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AuctionService {
     
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+
     private final AuctionRepository auctionRepository;
     private final CategoryRepository categoryRepository;
     private final PersonRepository personRepository;
     private final BidRepository bidRepository;
     private final FeedbackRepository feedbackRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-
-    @Scheduled(fixedRate = 5000)
-    @Transactional
-    public void checkAndUpdateAuctionStatuses() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("=== Auction Status Scheduler running at: {} ===", now);
-        
-        List<Auction> scheduledAuctions = auctionRepository.findAllByStatusAndStartDateTimeBefore(
-                AuctionStatus.SCHEDULED, now);
-        if (!scheduledAuctions.isEmpty()) {
-            log.info("Found {} scheduled auctions to open", scheduledAuctions.size());
-        }
-        for (Auction auction : scheduledAuctions) {
-            log.info("Opening auction ID: {} - {}", auction.getId(), auction.getTitle());
-            auction.setStatus(AuctionStatus.OPEN);
-            auctionRepository.save(auction);
-            
-            AuctionStatusUpdateDTO statusUpdate = new AuctionStatusUpdateDTO(
-                    auction.getId(),
-                    AuctionStatus.OPEN,
-                    LocalDateTime.now()
-            );
-            messagingTemplate.convertAndSend("/topic/auction/" + auction.getId() + "/status", statusUpdate);
-        }
-        
-        List<Auction> expiredAuctions = auctionRepository.findAllByStatusAndEndDateTimeBefore(
-                AuctionStatus.OPEN, now);
-        if (!expiredAuctions.isEmpty()) {
-            log.info("Found {} open auctions to close", expiredAuctions.size());
-        }
-        for (Auction auction : expiredAuctions) {
-            log.info("Closing auction ID: {} - {}", auction.getId(), auction.getTitle());
-            auction.setStatus(AuctionStatus.CLOSED);
-            auctionRepository.save(auction);
-            
-            AuctionStatusUpdateDTO statusUpdate = new AuctionStatusUpdateDTO(
-                    auction.getId(),
-                    AuctionStatus.CLOSED,
-                    LocalDateTime.now()
-            );
-            messagingTemplate.convertAndSend("/topic/auction/" + auction.getId() + "/status", statusUpdate);
-        }
-        
-        log.info("=== Scheduler finished ===");
-    }
+    private final ImageRepository imageRepository;
+    private final AuctionLifecycleService lifecycleService;
+    private final AuctionOrderBook orderBook;
+    private final AuctionEventLog eventLog;
+    private final WatchlistService watchlistService;
+    private final AuctionSearchIndex searchIndex;
+    private final AuctionSearchIndexer searchIndexer;
+    private final AuctionSuggestIndex suggestIndex;
+    private final AuctionFacetIndex facetIndex;
+    private final BidAdmissionLocks admissionLocks;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     @Timed(value = "auctions.create.time", description = "Tempo de criação de leilão")
@@ -103,6 +85,7 @@ public class AuctionService {
         log.info("Inserting new auction: {}", requestDTO.getTitle());
         Auction auction = new Auction();
         mapDTOToEntity(requestDTO, auction);
+        auction.setBidCount(0);
         
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
@@ -113,20 +96,30 @@ public class AuctionService {
         }
         
         Auction savedAuction = auctionRepository.save(auction);
+        lifecycleService.track(savedAuction);
+        searchIndexer.indexAfterCommit(savedAuction);
+        suggestIndex.putAfterCommit(savedAuction);
+        facetIndex.updateAfterCommit(savedAuction);
         log.info("Auction created successfully with ID: {}", savedAuction.getId());
         return toResponseDTO(savedAuction);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Timed(value = "auctions.update.time", description = "Tempo de atualização de leilão")
     @Counted(value = "auctions.update.count", description = "Quantidade de leilões atualizados")
     public AuctionResponseDTO update(Long id, AuctionRequestDTO requestDTO) {
         log.info("Updating auction with ID: {}", id);
-        Auction existingAuction = findById(id);
-        mapDTOToEntity(requestDTO, existingAuction);
-        Auction updatedAuction = auctionRepository.save(existingAuction);
-        log.info("Auction updated successfully: {}", id);
-        return toResponseDTO(updatedAuction);
+        return admissionLocks.withLock(id, () -> transactionTemplate.execute(status -> {
+            Auction existingAuction = findById(id);
+            mapDTOToEntity(requestDTO, existingAuction);
+            Auction updatedAuction = auctionRepository.save(existingAuction);
+            lifecycleService.track(updatedAuction);
+            searchIndexer.indexAfterCommit(updatedAuction);
+            suggestIndex.putAfterCommit(updatedAuction);
+            facetIndex.updateAfterCommit(updatedAuction);
+            log.info("Auction updated successfully: {}", id);
+            return toResponseDTO(updatedAuction);
+        }));
     }
 
     @Transactional
@@ -134,7 +127,12 @@ public class AuctionService {
     public void delete(Long id) {
         log.info("Deleting auction with ID: {}", id);
         Auction auction = findById(id);
+        watchlistService.removeAuction(id);
         auctionRepository.delete(auction);
+        lifecycleService.untrack(id);
+        searchIndexer.removeAfterCommit(id);
+        suggestIndex.removeAfterCommit(id);
+        facetIndex.deleteAfterCommit(id);
         log.info("Auction deleted successfully: {}", id);
     }
 
@@ -148,8 +146,39 @@ public class AuctionService {
         return toResponseDTO(auction);
     }
 
+    public AuctionSnapshotDTO getSnapshot(Long id) {
+        long sequence = eventLog.currentSequence(id);
+        Auction auction = findById(id);
+
+        AuctionSnapshotDTO dto = new AuctionSnapshotDTO();
+        dto.setAuctionId(auction.getId());
+        dto.setSequence(sequence);
+        dto.setStatus(auction.getStatus());
+        dto.setEndDateTime(auction.getEndDateTime());
+        dto.setMinimumBid(auction.getMinimumBid());
+        dto.setTimestamp(LocalDateTime.now());
+
+        if (auction.getStatus() == AuctionStatus.OPEN) {
+            OrderBookEntry book = orderBook.get(auction.getId());
+            dto.setCurrentPrice(book.hasBids() ? book.getHighestAmount() : auction.getMinimumBid());
+            dto.setTotalBids(book.getBidCount());
+            dto.setLeadingBidId(book.getLeadingBidId());
+        } else {
+            dto.setCurrentPrice(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getMinimumBid());
+            dto.setTotalBids(auction.getBidCount() != null ? auction.getBidCount() : 0);
+            dto.setLeadingBidId(auction.getLeadingBidId());
+        }
+        return dto;
+    }
+
+    public AuctionResumeDTO resume(Long id, long sequence) {
+        return eventLog.since(id, sequence)
+                .map(events -> new AuctionResumeDTO(id, events, null))
+                .orElseGet(() -> new AuctionResumeDTO(id, List.of(), getSnapshot(id)));
+    }
+
     public Page<AuctionResponseDTO> findAll(Pageable pageable) {
-        return auctionRepository.findAll(pageable).map(this::toResponseDTO);
+        return toResponsePage(auctionRepository.findSummaries(pageable));
     }
 
     public Page<AuctionResponseDTO> findByFilters(
@@ -168,21 +197,35 @@ public class AuctionService {
             }
         }
         
-        return auctionRepository.findByFilters(
+        Page<AuctionSummaryDTO> found = searchSummaries(
+                searchQuery(search, auctionStatus, categoryId, startDate, endDate), pageable);
+        if (found != null) {
+            return toResponsePage(found);
+        }
+        
+        return toResponsePage(auctionRepository.findSummariesByFilters(
                 auctionStatus,
                 categoryId,
                 startDate,
                 endDate,
                 search,
                 pageable
-        ).map(this::toResponseDTO);
+        ));
     }
 
     private void mapDTOToEntity(AuctionRequestDTO dto, Auction auction) {
         auction.setTitle(dto.getTitle());
         auction.setDescription(dto.getDescription());
         auction.setStartDateTime(dto.getStartDateTime());
-        auction.setEndDateTime(dto.getEndDateTime());
+        // A soft close may have extended an open auction after the client loaded it, so an open auction's
+        // end is never moved earlier by an edit
+        if (auction.getStatus() == AuctionStatus.OPEN && auction.getEndDateTime() != null
+                && dto.getEndDateTime().isBefore(auction.getEndDateTime())) {
+            log.info("Keeping end {} of open auction {} instead of the earlier {}",
+                    auction.getEndDateTime(), auction.getId(), dto.getEndDateTime());
+        } else {
+            auction.setEndDateTime(dto.getEndDateTime());
+        }
         auction.setMinimumBid(dto.getMinimumBid());
         
         if (auction.getStatus() == null) {
@@ -224,11 +267,7 @@ public class AuctionService {
             dto.setPublisherName(auction.getPublisher().getName());
         }
         
-        if (auction.getBids() != null) {
-            dto.setTotalBids(auction.getBids().size());
-        } else {
-            dto.setTotalBids(0);
-        }
+        dto.setTotalBids(auction.getBidCount() != null ? auction.getBidCount() : 0);
         
         if (auction.getImages() != null && !auction.getImages().isEmpty()) {
             auction.getImages().stream()
@@ -243,15 +282,7 @@ public class AuctionService {
                 .ifPresent(mainImage -> dto.setMainImageId(mainImage.getId()));
         }
         
-        if (auction.getBids() != null && !auction.getBids().isEmpty()) {
-            Float maxBid = auction.getBids().stream()
-                .map(bid -> bid.getAmount())
-                .max(Float::compare)
-                .orElse(0f);
-            dto.setCurrentPrice(maxBid);
-        } else {
-            dto.setCurrentPrice(0f);
-        }
+        dto.setCurrentPrice(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : 0f);
         
         return dto;
     }
@@ -271,83 +302,259 @@ public class AuctionService {
             }
         }
         
-        return auctionRepository.findByFilters(
-                auctionStatus,
-                categoryId,
-                null,
-                null,
-                search,
-                pageable
-        ).map(this::toPublicResponseDTO);
+        Page<AuctionSummaryDTO> found = searchSummaries(
+                searchQuery(search, auctionStatus, categoryId, null, null), pageable);
+        Page<AuctionSummaryDTO> summaries = found != null
+                ? found
+                : auctionRepository.findSummariesByFilters(
+                        auctionStatus,
+                        categoryId,
+                        null,
+                        null,
+                        search,
+                        pageable
+                );
+        Map<Long, Object[]> mainImages = findMainImages(summaries.getContent());
+        return summaries.map(summary -> toPublicResponseDTO(summary, mainImages.get(summary.getId())));
+    }
+    
+    public AuctionCursorPageDTO<AuctionResponseDTO> findByFiltersKeyset(
+            String status,
+            Long categoryId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String search,
+            String cursor,
+            int size,
+            boolean includeTotal) {
+        
+        return findKeysetPage(parseStatus(status, null), categoryId, startDate, endDate, search,
+                cursor, size, includeTotal, this::toResponseDTO);
+    }
+    
+    public AuctionCursorPageDTO<PublicAuctionResponseDTO> findPublicAuctionsKeyset(
+            String status,
+            Long categoryId,
+            String search,
+            String cursor,
+            int size,
+            boolean includeTotal) {
+        
+        return findKeysetPage(parseStatus(status, AuctionStatus.OPEN), categoryId, null, null, search,
+                cursor, size, includeTotal, this::toPublicResponseDTO);
+    }
+    
+    private <T> AuctionCursorPageDTO<T> findKeysetPage(
+            AuctionStatus status,
+            Long categoryId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String search,
+            String cursor,
+            int size,
+            boolean includeTotal,
+            BiFunction<AuctionSummaryDTO, Object[], T> mapper) {
+        
+        int pageSize = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        AuctionCursor after = AuctionCursor.decode(cursor);
+        LocalDateTime afterEndDateTime = after != null ? after.endDateTime() : null;
+        Long afterId = after != null ? after.id() : null;
+        PageRequest slice = PageRequest.of(0, pageSize + 1);
+        
+        AuctionSearchQuery query = searchQuery(search, status, categoryId, startDate, endDate);
+        List<AuctionSummaryDTO> rows;
+        Long total = null;
+        if (query != null) {
+            rows = findInOrder(searchIndex.pageAfter(query, afterEndDateTime, afterId, pageSize + 1), query);
+            if (includeTotal) {
+                total = searchIndex.count(query);
+            }
+        } else {
+            rows = auctionRepository.findSummariesByFiltersAfter(
+                    status, categoryId, startDate, endDate, search, afterEndDateTime, afterId, slice);
+            if (includeTotal) {
+                total = auctionRepository.countByFilters(status, categoryId, startDate, endDate, search);
+            }
+        }
+        return toCursorPage(rows, pageSize, total, mapper);
+    }
+    
+    private <T> AuctionCursorPageDTO<T> toCursorPage(
+            List<AuctionSummaryDTO> rows, int pageSize, Long total,
+            BiFunction<AuctionSummaryDTO, Object[], T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<AuctionSummaryDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, Object[]> mainImages = findMainImages(page);
+        List<T> content = page.stream()
+                .map(summary -> mapper.apply(summary, mainImages.get(summary.getId())))
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            AuctionSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = new AuctionCursor(last.getEndDateTime(), last.getId()).encode();
+        }
+        return new AuctionCursorPageDTO<>(content, nextCursor, hasNext, total);
+    }
+    
+    private AuctionSearchQuery searchQuery(
+            String search,
+            AuctionStatus status,
+            Long categoryId,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+        
+        if (search == null || search.isBlank() || !searchIndexer.isReady()) {
+            return null;
+        }
+        return new AuctionSearchQuery(search, status, categoryId, startDate, endDate);
+    }
+    
+    // Pages and counts in the index; returns null only when the SQL search has to run instead
+    private Page<AuctionSummaryDTO> searchSummaries(AuctionSearchQuery query, Pageable pageable) {
+        if (query == null) {
+            return null;
+        }
+        AuctionSearchPage hits = searchIndex.page(query, pageable);
+        if (hits != null) {
+            return new PageImpl<>(findInOrder(hits.ids(), query), pageable, hits.total());
+        }
+        // The index cannot order by this property, so it only narrows the candidates down for SQL
+        List<Long> matches = searchIndex.search(query);
+        if (matches == null) {
+            return null;
+        }
+        return matches.isEmpty()
+                ? Page.empty(pageable)
+                : auctionRepository.findSummariesByIdsAndFilters(matches, query.status(), query.categoryId(),
+                        query.startDate(), query.endDate(), pageable);
+    }
+    
+    private List<AuctionSummaryDTO> findInOrder(List<Long> ids, AuctionSearchQuery query) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AuctionSummaryDTO> rows = auctionRepository.findSummariesByIdsAndFilters(
+                        ids, query.status(), query.categoryId(), query.startDate(), query.endDate(), Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(AuctionSummaryDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    private AuctionStatus parseStatus(String status, AuctionStatus fallback) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return AuctionStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
     }
     
     public List<PublicAuctionResponseDTO> findEndingSoonAuctions(int limit) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime maxEndTime = now.plusHours(24);
         
-        List<Auction> auctions = auctionRepository.findEndingSoon(
+        List<AuctionSummaryDTO> summaries = auctionRepository.findEndingSoonSummaries(
                 AuctionStatus.OPEN,
                 now,
                 maxEndTime,
                 PageRequest.of(0, limit)
         );
         
-        return auctions.stream()
-                .map(this::toPublicResponseDTO)
-                .collect(Collectors.toList());
+        return toPublicResponseList(summaries);
     }
     
     public List<PublicAuctionResponseDTO> findMostPopularAuctions(int limit) {
-        List<Auction> auctions = auctionRepository.findMostPopular(
+        List<AuctionSummaryDTO> summaries = auctionRepository.findMostPopularSummaries(
                 AuctionStatus.OPEN,
                 PageRequest.of(0, limit)
         );
         
-        return auctions.stream()
-                .map(this::toPublicResponseDTO)
+        return toPublicResponseList(summaries);
+    }
+    
+    private List<PublicAuctionResponseDTO> toPublicResponseList(List<AuctionSummaryDTO> summaries) {
+        Map<Long, Object[]> mainImages = findMainImages(summaries);
+        return summaries.stream()
+                .map(summary -> toPublicResponseDTO(summary, mainImages.get(summary.getId())))
                 .collect(Collectors.toList());
     }
     
-    private PublicAuctionResponseDTO toPublicResponseDTO(Auction auction) {
-        PublicAuctionResponseDTO dto = new PublicAuctionResponseDTO();
-        dto.setId(auction.getId());
-        dto.setTitle(auction.getTitle());
-        dto.setDescription(auction.getDescription());
-        dto.setStartDateTime(auction.getStartDateTime());
-        dto.setEndDateTime(auction.getEndDateTime());
-        dto.setStatus(auction.getStatus());
-        
-        if (auction.getCategory() != null) {
-            dto.setCategoryId(auction.getCategory().getId());
-            dto.setCategoryName(auction.getCategory().getName());
+    private Page<AuctionResponseDTO> toResponsePage(Page<AuctionSummaryDTO> summaries) {
+        Map<Long, Object[]> mainImages = findMainImages(summaries.getContent());
+        return summaries.map(summary -> toResponseDTO(summary, mainImages.get(summary.getId())));
+    }
+    
+    private Map<Long, Object[]> findMainImages(List<AuctionSummaryDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return Map.of();
         }
-        
-        Float currentPrice = auction.getMinimumBid();
-        if (auction.getBids() != null && !auction.getBids().isEmpty()) {
-            currentPrice = auction.getBids().stream()
-                    .map(bid -> bid.getAmount())
-                    .max(Comparator.naturalOrder())
-                    .orElse(auction.getMinimumBid());
+        List<Long> auctionIds = summaries.stream().map(AuctionSummaryDTO::getId).collect(Collectors.toList());
+        Map<Long, Object[]> mainImages = new HashMap<>();
+        for (Object[] image : imageRepository.findMetadataByAuctionIds(auctionIds)) {
+            mainImages.merge((Long) image[0], image, (current, candidate) ->
+                    compareImageMetadata(candidate, current) < 0 ? candidate : current);
         }
-        dto.setCurrentPrice(currentPrice);
-        
-        if (auction.getImages() != null && !auction.getImages().isEmpty()) {
-            auction.getImages().stream()
-                    .min((img1, img2) -> {
-                        if (img1.getDisplayOrder() != null && img2.getDisplayOrder() != null) {
-                            return img1.getDisplayOrder().compareTo(img2.getDisplayOrder());
-                        }
-                        if (img1.getUploadedAt() == null) return 1;
-                        if (img2.getUploadedAt() == null) return -1;
-                        return img1.getUploadedAt().compareTo(img2.getUploadedAt());
-                    })
-                    .ifPresent(image -> {
-                        dto.setMainImageId(image.getId());
-                        dto.setImageUrl(image.getImageName());
-                    });
+        return mainImages;
+    }
+    
+    private int compareImageMetadata(Object[] img1, Object[] img2) {
+        Integer order1 = (Integer) img1[3];
+        Integer order2 = (Integer) img2[3];
+        if (order1 != null && order2 != null) {
+            return order1.compareTo(order2);
+        }
+        LocalDateTime uploaded1 = (LocalDateTime) img1[4];
+        LocalDateTime uploaded2 = (LocalDateTime) img2[4];
+        if (uploaded1 == null) return 1;
+        if (uploaded2 == null) return -1;
+        return uploaded1.compareTo(uploaded2);
+    }
+    
+    private AuctionResponseDTO toResponseDTO(AuctionSummaryDTO summary, Object[] mainImage) {
+        AuctionResponseDTO dto = new AuctionResponseDTO();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setStartDateTime(summary.getStartDateTime());
+        dto.setEndDateTime(summary.getEndDateTime());
+        dto.setStatus(summary.getStatus() != null ? summary.getStatus().name() : null);
+        dto.setNotes(summary.getNotes());
+        dto.setMinimumBid(summary.getMinimumBid());
+        dto.setCategoryId(summary.getCategoryId());
+        dto.setCategoryName(summary.getCategoryName());
+        dto.setPublisherId(summary.getPublisherId());
+        dto.setPublisherName(summary.getPublisherName());
+        dto.setTotalBids(summary.getBidCount() != null ? summary.getBidCount() : 0);
+        if (mainImage != null) {
+            dto.setMainImageId((Long) mainImage[1]);
+        }
+        dto.setCurrentPrice(summary.getCurrentPrice() != null ? summary.getCurrentPrice() : 0f);
+        return dto;
+    }
+    
+    private PublicAuctionResponseDTO toPublicResponseDTO(AuctionSummaryDTO summary, Object[] mainImage) {
+        PublicAuctionResponseDTO dto = new PublicAuctionResponseDTO();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setStartDateTime(summary.getStartDateTime());
+        dto.setEndDateTime(summary.getEndDateTime());
+        dto.setStatus(summary.getStatus());
+        dto.setCategoryId(summary.getCategoryId());
+        dto.setCategoryName(summary.getCategoryName());
+        dto.setCurrentPrice(summary.getCurrentPrice() != null ? summary.getCurrentPrice() : summary.getMinimumBid());
+        
+        if (mainImage != null) {
+            dto.setMainImageId((Long) mainImage[1]);
+            dto.setImageUrl((String) mainImage[2]);
         }
         
-        dto.setTotalBids(auction.getBids() != null ? auction.getBids().size() : 0);
+        dto.setTotalBids(summary.getBidCount() != null ? summary.getBidCount() : 0);
         
         return dto;
     }
@@ -369,20 +576,8 @@ public AuctionDetailDTO getPublicAuctionDetail(Long id) {
             dto.setCategoryName(auction.getCategory().getName());
         }
         
-        Float currentPrice = auction.getMinimumBid();
-        Bid winningBid = null;
-
-        if (auction.getBids() != null && !auction.getBids().isEmpty()) {
-            winningBid = auction.getBids().stream()
-                    .max(Comparator.comparing(Bid::getAmount))
-                    .orElse(null);
-            
-            if (winningBid != null) {
-                currentPrice = winningBid.getAmount();
-            }
-        }
-        dto.setCurrentPrice(currentPrice);
-        dto.setTotalBids(auction.getBids() != null ? auction.getBids().size() : 0);
+        dto.setCurrentPrice(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getMinimumBid());
+        dto.setTotalBids(auction.getBidCount() != null ? auction.getBidCount() : 0);
         
         Boolean currentUserHasBids = false;
         Boolean isWinner = false;
@@ -396,14 +591,13 @@ public AuctionDetailDTO getPublicAuctionDetail(Long id) {
             Person currentUser = personRepository.findByEmail(email).orElse(null);
             
             if (currentUser != null) {
-                if (auction.getBids() != null) {
-                    currentUserHasBids = auction.getBids().stream()
-                        .anyMatch(bid -> bid.getBidder() != null && 
-                                       bid.getBidder().getId().equals(currentUser.getId()));
-                }
+                currentUserHasBids = bidRepository.existsByAuctionIdAndBidderId(
+                    auction.getId(), 
+                    currentUser.getId()
+                );
 
-                if (auction.getStatus() == AuctionStatus.CLOSED && winningBid != null) {
-                    if (winningBid.getBidder().getId().equals(currentUser.getId())) {
+                if (auction.getStatus() == AuctionStatus.CLOSED && auction.getLeadingBidderId() != null) {
+                    if (auction.getLeadingBidderId().equals(currentUser.getId())) {
                         isWinner = true;
                         hasFeedback = feedbackRepository.existsByWriterIdAndAuctionId(
                             currentUser.getId(), 
@@ -498,16 +692,6 @@ public AuctionDetailDTO getPublicAuctionDetail(Long id) {
         Person currentUser = personRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("User not found"));
         
-        List<Bid> userBids = bidRepository.findByBidderId(currentUser.getId());
-        List<Long> auctionIds = userBids.stream()
-                .map(bid -> bid.getAuction().getId())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        if (auctionIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-        
         AuctionStatus auctionStatus = null;
         if (status != null && !status.trim().isEmpty()) {
             try {
@@ -516,9 +700,16 @@ public AuctionDetailDTO getPublicAuctionDetail(Long id) {
             }
         }
         
-        Page<Auction> auctions = auctionRepository.findByIdInAndFilters(
-                auctionIds, auctionStatus, categoryId, search, pageable);
+        AuctionSearchQuery query = searchQuery(search, auctionStatus, categoryId, null, null);
+        List<Long> matches = query != null ? searchIndex.search(query) : null;
+        if (matches != null) {
+            return matches.isEmpty()
+                    ? Page.empty(pageable)
+                    : toResponsePage(auctionRepository.findSummariesByBidderAndIds(
+                            currentUser.getId(), matches, auctionStatus, categoryId, pageable));
+        }
         
-        return auctions.map(this::toResponseDTO);
+        return toResponsePage(auctionRepository.findSummariesByBidderAndFilters(
+                currentUser.getId(), auctionStatus, categoryId, search, pageable));
     }
 }
@@ -0,0 +1,97 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.journal.BidJournal;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionStatsService {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final AuctionOrderBook orderBook;
+    private final BidAdmissionLocks admissionLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final BidJournal journal;
+
+    private final Set<Long> suspects = new HashSet<>();
+
+    public void apply(Auction auction, OrderBookEntry entry) {
+        auction.setCurrentPrice(entry.getHighestAmount());
+        auction.setBidCount(entry.getBidCount());
+        auction.setLeadingBidId(entry.getLeadingBidId());
+        auction.setLeadingBidderId(entry.getLeadingBidderId());
+    }
+
+    public void recompute(Auction auction) {
+        OrderBookEntry entry = OrderBookEntry.EMPTY;
+        List<Bid> leading = bidRepository.findLeadingBids(auction.getId());
+        if (!leading.isEmpty()) {
+            Bid top = leading.get(0);
+            entry = new OrderBookEntry(
+                    top.getAmount(),
+                    (int) bidRepository.countByAuctionId(auction.getId()),
+                    top.getId(),
+                    top.getBidder().getId()
+            );
+        }
+        apply(auction, entry);
+        auctionRepository.updateBidTotals(auction.getId(), entry.getHighestAmount(), entry.getBidCount(),
+                entry.getLeadingBidId(), entry.getLeadingBidderId());
+    }
+
+    @Transactional
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int totals = auctionRepository.backfillBidTotals();
+        int leaders = auctionRepository.backfillLeadingBids();
+        auctionRepository.backfillLeadingBidders();
+        if (totals > 0 || leaders > 0) {
+            log.info("Backfilled bid totals for {} auctions and leaders for {} auctions", totals, leaders);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.auction.stats-check-interval-ms:3600000}",
+            fixedDelayString = "${app.auction.stats-check-interval-ms:3600000}")
+    public void checkConsistency() {
+        List<Long> inconsistentIds = auctionRepository.findIdsWithInconsistentBidTotals();
+        if (journal.isEnabled()) {
+            // Journaled bids reach the bids table after the auction row, so only repair auctions that stayed off
+            List<Long> confirmed = inconsistentIds.stream().filter(suspects::contains).toList();
+            suspects.clear();
+            suspects.addAll(inconsistentIds);
+            inconsistentIds = confirmed;
+        }
+        if (inconsistentIds.isEmpty()) {
+            return;
+        }
+        log.warn("Found {} auctions with inconsistent bid totals, repairing", inconsistentIds.size());
+        for (Long auctionId : inconsistentIds) {
+            admissionLocks.withLock(auctionId, () -> transactionTemplate.execute(status -> {
+                auctionRepository.findById(auctionId).ifPresent(this::recompute);
+                orderBook.evict(auctionId);
+                return null;
+            }));
+        }
+    }
+}
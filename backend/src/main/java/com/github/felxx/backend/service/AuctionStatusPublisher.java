@@ -0,0 +1,30 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.model.AuctionStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionStatusPublisher {
+
+    private final AuctionEventLog eventLog;
+
+    // Called after commit from the single lifecycle transitions thread; publishing on that thread keeps
+    // an auction's OPEN update ahead of its CLOSED update, which a thread pool could reorder
+    public void publish(AuctionStatus status, List<Long> auctionIds) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        for (Long auctionId : auctionIds) {
+            AuctionStatusUpdateDTO statusUpdate = new AuctionStatusUpdateDTO(auctionId, status, timestamp, null);
+            eventLog.publish(auctionId, AuctionEventType.STATUS, statusUpdate);
+        }
+        log.debug("Published {} status updates for {} auctions", status, auctionIds.size());
+    }
+}
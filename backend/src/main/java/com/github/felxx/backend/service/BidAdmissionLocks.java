@@ -0,0 +1,87 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class BidAdmissionLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMillis;
+
+    public BidAdmissionLocks(
+            @Value("${app.bidding.lock-stripes:256}") int stripeCount,
+            @Value("${app.bidding.lock-timeout-ms:5000}") long timeoutMillis) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public <T> T withLock(Long auctionId, Supplier<T> action) {
+        ReentrantLock lock = lockFor(auctionId);
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Bid rejected - Timed out waiting for admission lock of auction {}", auctionId);
+                throw new BusinessException("Auction is busy, please try again");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Bid admission was interrupted");
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withLocks(Collection<Long> auctionIds, Supplier<T> action) {
+        BitSet stripeIndexes = new BitSet(stripes.length);
+        for (Long auctionId : auctionIds) {
+            stripeIndexes.set(stripeFor(auctionId));
+        }
+
+        int acquired = -1;
+        try {
+            for (int i = stripeIndexes.nextSetBit(0); i >= 0; i = stripeIndexes.nextSetBit(i + 1)) {
+                if (!stripes[i].tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    log.warn("Timed out waiting for admission locks of {} auctions", auctionIds.size());
+                    throw new BusinessException("Auctions are busy, please try again");
+                }
+                acquired = i;
+            }
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Auction lock acquisition was interrupted");
+        } finally {
+            for (int i = stripeIndexes.nextSetBit(0); i >= 0 && i <= acquired; i = stripeIndexes.nextSetBit(i + 1)) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(Long auctionId) {
+        return stripes[stripeFor(auctionId)];
+    }
+
+    private int stripeFor(Long auctionId) {
+        int h = auctionId.hashCode();
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+public class BidBroadcaster {
+
+    private static final long IDLE_SWEEP_INTERVAL_MS = 10000;
+
+    private final AuctionEventLog eventLog;
+    private final long windowMillis;
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+    private final Timer lagTimer;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bid-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BidBroadcaster(
+            AuctionEventLog eventLog,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.bid-coalesce-window-ms:50}") long windowMillis) {
+        this.eventLog = eventLog;
+        this.windowMillis = Math.max(0, windowMillis);
+        this.sentCounter = Counter.builder("bids.broadcast.sent")
+                .description("Notificações de lance enviadas aos assinantes")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("bids.broadcast.coalesced")
+                .description("Notificações de lance substituídas por uma mais recente antes do envio")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("bids.broadcast.lag")
+                .description("Atraso entre o commit do lance e o envio da notificação")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("bids.broadcast.slots", slots, Map::size)
+                .description("Leilões com janela de agrupamento de lances ativa")
+                .register(meterRegistry);
+        executor.scheduleWithFixedDelay(this::removeIdleSlots,
+                IDLE_SWEEP_INTERVAL_MS, IDLE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public void broadcast(BidNotificationDTO notification) {
+        afterCommit(() -> submit(notification));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(BidNotificationDTO notification) {
+        Long auctionId = notification.getAuctionId();
+        long now = System.currentTimeMillis();
+        slots.compute(auctionId, (id, slot) -> {
+            if (slot == null) {
+                slot = new Slot();
+            }
+            if (slot.pending == null) {
+                slot.pending = notification;
+                slot.pendingSince = now;
+            } else if (notification.getTotalBids() >= slot.pending.getTotalBids()) {
+                slot.pending = notification;
+                coalescedCounter.increment();
+            } else {
+                coalescedCounter.increment();
+            }
+            if (!slot.scheduled) {
+                slot.scheduled = true;
+                executor.schedule(() -> flush(id), Math.max(0, slot.nextSendAt - now), TimeUnit.MILLISECONDS);
+            }
+            return slot;
+        });
+    }
+
+    private void flush(Long auctionId) {
+        long now = System.currentTimeMillis();
+        Slot[] taken = new Slot[1];
+        slots.computeIfPresent(auctionId, (id, slot) -> {
+            Slot snapshot = new Slot();
+            snapshot.pending = slot.pending;
+            snapshot.pendingSince = slot.pendingSince;
+            taken[0] = snapshot;
+            slot.pending = null;
+            slot.scheduled = false;
+            slot.nextSendAt = now + windowMillis;
+            return slot;
+        });
+        if (taken[0] == null || taken[0].pending == null) {
+            return;
+        }
+
+        try {
+            eventLog.publish(auctionId, AuctionEventType.BID, taken[0].pending);
+            sentCounter.increment();
+            lagTimer.record(System.currentTimeMillis() - taken[0].pendingSince, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast bid notification for auction {}", auctionId, e);
+        }
+    }
+
+    void removeIdleSlots() {
+        long now = System.currentTimeMillis();
+        slots.keySet().forEach(auctionId -> slots.computeIfPresent(auctionId, (id, slot) ->
+                !slot.scheduled && slot.pending == null && slot.nextSendAt <= now ? null : slot));
+    }
+
+    private static class Slot {
+        private BidNotificationDTO pending;
+        private long pendingSince;
+        private long nextSendAt;
+        private boolean scheduled;
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.bid.BidRequestDTO;
+import com.github.felxx.backend.dto.bid.BidResponseDTO;
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.model.BidIdempotencyKey;
+import com.github.felxx.backend.repository.BidIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Service
+public class BidIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final BidIdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> cache;
+
+    public BidIdempotencyService(
+            BidIdempotencyKeyRepository repository,
+            @Value("${app.bidding.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${app.bidding.idempotency.max-entries:100000}") int maxEntries) {
+        this.repository = repository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.cache = new LinkedHashMap<>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public String scope(String userEmail, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("Idempotency-Key cannot exceed " + MAX_KEY_LENGTH + " characters");
+        }
+        return userEmail + ":" + idempotencyKey.trim();
+    }
+
+    public Optional<BidResponseDTO> findCachedReplay(String scopedKey, BidRequestDTO requestDTO) {
+        return matchReplay(scopedKey, fromCache(scopedKey), requestDTO);
+    }
+
+    public Optional<BidResponseDTO> findReplay(String scopedKey, BidRequestDTO requestDTO) {
+        BidResponseDTO response = fromCache(scopedKey);
+        if (response == null) {
+            response = repository.findById(scopedKey)
+                    .filter(record -> !isExpired(record.getCreatedAt()))
+                    .map(record -> {
+                        BidResponseDTO stored = toResponseDTO(record);
+                        cache(scopedKey, stored, record.getCreatedAt());
+                        return stored;
+                    })
+                    .orElse(null);
+        }
+        return matchReplay(scopedKey, response, requestDTO);
+    }
+
+    public void remember(String scopedKey, BidResponseDTO response) {
+        LocalDateTime now = LocalDateTime.now();
+        BidIdempotencyKey record = new BidIdempotencyKey();
+        record.setScopedKey(scopedKey);
+        record.setBidId(response.getId());
+        record.setAmount(response.getAmount());
+        record.setBidDateTime(response.getBidDateTime());
+        record.setAuctionId(response.getAuctionId());
+        record.setAuctionTitle(response.getAuctionTitle());
+        record.setBidderId(response.getBidderId());
+        record.setBidderName(response.getBidderName());
+        record.setCreatedAt(now);
+        repository.save(record);
+
+        afterCommit(() -> cache(scopedKey, response, now));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.bidding.idempotency.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        synchronized (cache) {
+            cache.values().removeIf(cached -> cached.createdAt.isBefore(cutoff));
+        }
+        int deleted = repository.deleteCreatedBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Removed {} expired bid idempotency keys", deleted);
+        }
+    }
+
+    private Optional<BidResponseDTO> matchReplay(String scopedKey, BidResponseDTO response, BidRequestDTO requestDTO) {
+        if (response == null) {
+            return Optional.empty();
+        }
+        if (!response.getAuctionId().equals(requestDTO.getAuctionId())
+                || !response.getAmount().equals(requestDTO.getAmount())) {
+            throw new BusinessException("Idempotency-Key was already used for a different bid");
+        }
+        log.info("Replaying bid response for idempotency key {}", scopedKey);
+        return Optional.of(response);
+    }
+
+    private BidResponseDTO fromCache(String scopedKey) {
+        synchronized (cache) {
+            CachedResponse cached = cache.get(scopedKey);
+            if (cached == null) {
+                return null;
+            }
+            if (isExpired(cached.createdAt)) {
+                cache.remove(scopedKey);
+                return null;
+            }
+            return cached.response;
+        }
+    }
+
+    private void cache(String scopedKey, BidResponseDTO response, LocalDateTime createdAt) {
+        synchronized (cache) {
+            cache.put(scopedKey, new CachedResponse(response, createdAt));
+        }
+    }
+
+    private boolean isExpired(LocalDateTime createdAt) {
+        return createdAt.plus(ttl).isBefore(LocalDateTime.now());
+    }
+
+    private BidResponseDTO toResponseDTO(BidIdempotencyKey record) {
+        return new BidResponseDTO(
+                record.getBidId(),
+                record.getAmount(),
+                record.getBidDateTime(),
+                record.getAuctionId(),
+                record.getAuctionTitle(),
+                record.getBidderId(),
+                record.getBidderName()
+        );
+    }
+
+    private static class CachedResponse {
+        private final BidResponseDTO response;
+        private final LocalDateTime createdAt;
+
+        private CachedResponse(BidResponseDTO response, LocalDateTime createdAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.journal.BidIdAllocator;
+import com.github.felxx.backend.journal.BidJournal;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.BidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidRecorder {
+
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final BidJournal journal;
+    private final BidIdAllocator idAllocator;
+    private final AuctionOrderBook orderBook;
+    private final AuctionStatsService statsService;
+    private final AuctionLifecycleService lifecycleService;
+
+    public Bid record(Auction auction, Person bidder, float amount) {
+        Bid bid = new Bid();
+        bid.setAmount(amount);
+        bid.setBidDateTime(LocalDateTime.now());
+        bid.setBidder(bidder);
+        bid.setAuction(auction);
+        lifecycleService.onBid(auction, bid.getBidDateTime());
+
+        // Load the book before the auction row changes, otherwise a cold load would already count this bid
+        orderBook.get(auction.getId());
+        Bid recorded;
+        if (journal.isEnabled()) {
+            bid.setId(idAllocator.next());
+            recorded = bid;
+        } else {
+            recorded = bidRepository.save(bid);
+        }
+
+        if (auctionRepository.raiseCurrentPrice(
+                auction.getId(), amount, recorded.getId(), bidder.getId(), AuctionStatus.OPEN) == 0) {
+            orderBook.evict(auction.getId());
+            log.warn("Bid rejected - Auction {} was outbid or closed by another node", auction.getId());
+            throw new BusinessException("Bid amount must be higher than current highest bid");
+        }
+        statsService.apply(auction, orderBook.record(recorded));
+
+        if (journal.isEnabled()) {
+            afterCommit(() -> appendToJournal(recorded));
+        }
+        return recorded;
+    }
+
+    private void appendToJournal(Bid bid) {
+        Long auctionId = bid.getAuction().getId();
+        try {
+            journal.append(bid.getId(), auctionId, bid.getBidder().getId(), bid.getAmount(), bid.getBidDateTime());
+        } catch (RuntimeException e) {
+            orderBook.evict(auctionId);
+            log.error("Could not journal bid {} of auction {} after its admission committed", bid.getId(), auctionId, e);
+            throw e;
+        }
+    }
+}
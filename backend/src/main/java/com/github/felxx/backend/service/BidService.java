@@ -2,6 +2,8 @@ package com.github.felxx.backend.service;
 
 import com.github.felxx.backend.dto.bid.BidRequestDTO;
 import com.github.felxx.backend.dto.bid.BidResponseDTO;
+import com.github.felxx.backend.dto.bid.ProxyBidRequestDTO;
+import com.github.felxx.backend.dto.bid.ProxyBidResponseDTO;
 import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
 import com.github.felxx.backend.exception.BusinessException;
 import com.github.felxx.backend.exception.NotFoundException;
@@ -9,6 +11,7 @@ import com.github.felxx.backend.model.Auction;
 import com.github.felxx.backend.model.AuctionStatus;
 import com.github.felxx.backend.model.Bid;
 import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.model.ProxyBid;
 import com.github.felxx.backend.repository.AuctionRepository;
 import com.github.felxx.backend.repository.BidRepository;
 import com.github.felxx.backend.repository.PersonRepository;
@@ -20,15 +23,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -38,21 +40,126 @@ public class BidService {
     private final BidRepository bidRepository;
     private final PersonRepository personRepository;
     private final AuctionRepository auctionRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private final ModelMapper modelMapper;
+    private final BidBroadcaster bidBroadcaster;
+    private final AuctionOrderBook orderBook;
+    private final BidAdmissionLocks admissionLocks;
+    private final AuctionStatsService statsService;
+    private final ProxyBiddingEngine proxyBiddingEngine;
+    private final BidRecorder bidRecorder;
+    private final BidIdempotencyService idempotencyService;
+    private final OutbidNotifier outbidNotifier;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     @Timed(value = "bids.create.time", description = "Tempo de criação de lance")
     @Counted(value = "bids.create.count", description = "Quantidade de lances criados")
-    public BidResponseDTO insert(BidRequestDTO requestDTO) {
+    public BidResponseDTO insert(BidRequestDTO requestDTO, String idempotencyKey) {
         log.info("Processing new bid for auction ID: {} with amount: {}", requestDTO.getAuctionId(), requestDTO.getAmount());
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUserEmail = authentication.getName();
         
+        String scopedKey = idempotencyService.scope(currentUserEmail, idempotencyKey);
+        if (scopedKey != null) {
+            Optional<BidResponseDTO> replay = idempotencyService.findCachedReplay(scopedKey, requestDTO);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
+        
+        Person bidder = personRepository.findByEmail(currentUserEmail)
+                .orElseThrow(() -> new NotFoundException("Person not found"));
+        
+        return admissionLocks.withLock(requestDTO.getAuctionId(), () -> transactionTemplate.execute(status -> {
+            if (scopedKey != null) {
+                Optional<BidResponseDTO> replay = idempotencyService.findReplay(scopedKey, requestDTO);
+                if (replay.isPresent()) {
+                    return replay.get();
+                }
+            }
+            BidResponseDTO response = admit(requestDTO, bidder);
+            if (scopedKey != null) {
+                idempotencyService.remember(scopedKey, response);
+            }
+            return response;
+        }));
+    }
+
+    @Timed(value = "bids.proxy.time", description = "Tempo de registro de lance automático")
+    @Counted(value = "bids.proxy.count", description = "Quantidade de lances automáticos registrados")
+    public ProxyBidResponseDTO insertProxy(ProxyBidRequestDTO requestDTO) {
+        log.info("Processing proxy bid for auction ID: {} with maximum: {}", requestDTO.getAuctionId(), requestDTO.getMaxAmount());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUserEmail = authentication.getName();
+        
         Person bidder = personRepository.findByEmail(currentUserEmail)
                 .orElseThrow(() -> new NotFoundException("Person not found"));
         
-        Auction auction = auctionRepository.findById(requestDTO.getAuctionId())
+        return admissionLocks.withLock(requestDTO.getAuctionId(),
+                () -> transactionTemplate.execute(status -> admitProxy(requestDTO, bidder)));
+    }
+
+    private BidResponseDTO admit(BidRequestDTO requestDTO, Person bidder) {
+        Auction auction = findBiddableAuction(requestDTO.getAuctionId(), bidder);
+        
+        OrderBookEntry book = orderBook.get(auction.getId());
+        if (book.hasBids()) {
+            Float highestBid = book.getHighestAmount();
+            if (requestDTO.getAmount() <= highestBid) {
+                log.warn("Bid rejected - Amount {} is not higher than current highest bid {}", requestDTO.getAmount(), highestBid);
+                throw new BusinessException("Bid amount must be higher than current highest bid: " + highestBid);
+            }
+        } else if (requestDTO.getAmount() < auction.getMinimumBid()) {
+            log.warn("Bid rejected - Amount {} is below minimum bid {}", requestDTO.getAmount(), auction.getMinimumBid());
+            throw new BusinessException("Bid amount must be at least the minimum bid: " + auction.getMinimumBid());
+        }
+        
+        Bid savedBid = bidRecorder.record(auction, bidder, requestDTO.getAmount());
+        
+        List<Bid> proxyBids = proxyBiddingEngine.resolve(auction);
+        notifyBid(auction, proxyBids.isEmpty() ? savedBid : proxyBids.get(proxyBids.size() - 1));
+        outbidNotifier.onLeaderChange(auction, book, orderBook.get(auction.getId()));
+        
+        return toResponseDTO(savedBid);
+    }
+
+    private ProxyBidResponseDTO admitProxy(ProxyBidRequestDTO requestDTO, Person bidder) {
+        Auction auction = findBiddableAuction(requestDTO.getAuctionId(), bidder);
+        
+        OrderBookEntry book = orderBook.get(auction.getId());
+        if (book.hasBids()) {
+            Float highestBid = book.getHighestAmount();
+            if (requestDTO.getMaxAmount() <= highestBid) {
+                log.warn("Proxy bid rejected - Maximum {} is not higher than current highest bid {}", requestDTO.getMaxAmount(), highestBid);
+                throw new BusinessException("Maximum amount must be higher than current highest bid: " + highestBid);
+            }
+        } else if (requestDTO.getMaxAmount() < auction.getMinimumBid()) {
+            log.warn("Proxy bid rejected - Maximum {} is below minimum bid {}", requestDTO.getMaxAmount(), auction.getMinimumBid());
+            throw new BusinessException("Maximum amount must be at least the minimum bid: " + auction.getMinimumBid());
+        }
+        
+        ProxyBid proxy = proxyBiddingEngine.register(auction, bidder, requestDTO.getMaxAmount());
+        
+        List<Bid> placedBids = proxyBiddingEngine.resolve(auction);
+        if (!placedBids.isEmpty()) {
+            notifyBid(auction, placedBids.get(placedBids.size() - 1));
+        }
+        
+        OrderBookEntry updatedBook = orderBook.get(auction.getId());
+        outbidNotifier.onLeaderChange(auction, book, updatedBook);
+        return new ProxyBidResponseDTO(
+                proxy.getId(),
+                auction.getId(),
+                proxy.getMaxAmount(),
+                proxy.getCreatedAt(),
+                proxy.isActive(),
+                bidder.getId().equals(updatedBook.getLeadingBidderId()),
+                updatedBook.getHighestAmount(),
+                updatedBook.getBidCount()
+        );
+    }
+
+    private Auction findBiddableAuction(Long auctionId, Person bidder) {
+        Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new NotFoundException("Auction not found"));
         
         if (auction.getStatus() == AuctionStatus.SCHEDULED) {
@@ -82,60 +189,44 @@ public class BidService {
             throw new BusinessException("Publisher cannot bid on their own auction");
         }
         
-        List<Bid> existingBids = bidRepository.findByAuctionIdOrderByAmountDesc(auction.getId());
-        if (!existingBids.isEmpty()) {
-            Float highestBid = existingBids.get(0).getAmount();
-            if (requestDTO.getAmount() <= highestBid) {
-                log.warn("Bid rejected - Amount {} is not higher than current highest bid {}", requestDTO.getAmount(), highestBid);
-                throw new BusinessException("Bid amount must be higher than current highest bid: " + highestBid);
-            }
-        } else if (requestDTO.getAmount() < auction.getMinimumBid()) {
-            log.warn("Bid rejected - Amount {} is below minimum bid {}", requestDTO.getAmount(), auction.getMinimumBid());
-            throw new BusinessException("Bid amount must be at least the minimum bid: " + auction.getMinimumBid());
-        }
-        
-        Bid bid = new Bid();
-        bid.setAmount(requestDTO.getAmount());
-        bid.setBidDateTime(LocalDateTime.now());
-        bid.setBidder(bidder);
-        bid.setAuction(auction);
-        
-        Bid savedBid = bidRepository.save(bid);
-        
-        Float currentPrice = auction.getBids().stream()
-                .map(Bid::getAmount)
-                .max(Comparator.naturalOrder())
-                .orElse(auction.getMinimumBid());
-        
+        return auction;
+    }
+
+    private void notifyBid(Auction auction, Bid lastBid) {
+        OrderBookEntry book = orderBook.get(auction.getId());
         BidNotificationDTO notification = new BidNotificationDTO(
                 auction.getId(),
-                savedBid.getId(),
-                savedBid.getAmount(),
-                bidder.getName(),
-                savedBid.getBidDateTime(),
-                currentPrice,
-                auction.getBids().size()
+                lastBid.getId(),
+                lastBid.getAmount(),
+                lastBid.getBidder().getName(),
+                lastBid.getBidDateTime(),
+                book.getHighestAmount(),
+                book.getBidCount(),
+                null
         );
         
-        messagingTemplate.convertAndSend("/topic/auction/" + auction.getId(), notification);
-        
-        return toResponseDTO(savedBid);
+        bidBroadcaster.broadcast(notification);
     }
 
-    @Transactional
     public void delete(Long id) {
-        Bid bid = findById(id);
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUserEmail = authentication.getName();
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ADMIN"));
-        
-        if (!isAdmin && !bid.getBidder().getEmail().equals(currentUserEmail)) {
-            throw new BusinessException("You can only delete your own bids");
-        }
-        
-        bidRepository.delete(bid);
+        Long auctionId = findById(id).getAuction().getId();
+        admissionLocks.withLock(auctionId, () -> transactionTemplate.execute(status -> {
+            Bid bid = findById(id);
+            
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String currentUserEmail = authentication.getName();
+            boolean isAdmin = authentication.getAuthorities().stream()
+                    .anyMatch(auth -> auth.getAuthority().equals("ADMIN"));
+            
+            if (!isAdmin && !bid.getBidder().getEmail().equals(currentUserEmail)) {
+                throw new BusinessException("You can only delete your own bids");
+            }
+            
+            bidRepository.delete(bid);
+            statsService.recompute(bid.getAuction());
+            orderBook.evict(auctionId);
+            return null;
+        }));
     }
 
     public Bid findById(Long id) {
@@ -7,6 +7,8 @@ import com.github.felxx.backend.model.Category;
 import com.github.felxx.backend.model.Person;
 import com.github.felxx.backend.repository.CategoryRepository;
 import com.github.felxx.backend.repository.PersonRepository;
+import com.github.felxx.backend.search.AuctionFacetIndex;
+import com.github.felxx.backend.search.AuctionSuggestIndex;
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,8 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final PersonRepository personRepository;
     private final ModelMapper modelMapper;
+    private final AuctionSuggestIndex suggestIndex;
+    private final AuctionFacetIndex facetIndex;
 
     @Transactional
     @Timed(value = "categories.create.time", description = "Tempo de criação de categoria")
@@ -47,6 +51,8 @@ public class CategoryService {
         }
         
         Category savedCategory = categoryRepository.save(category);
+        suggestIndex.putCategoryAfterCommit(savedCategory);
+        facetIndex.putCategoryAfterCommit(savedCategory);
         log.info("Category created successfully with ID: {}", savedCategory.getId());
         return toResponseDTO(savedCategory);
     }
@@ -58,6 +64,8 @@ public class CategoryService {
         existingCategory.setName(requestDTO.getName());
         existingCategory.setDescription(requestDTO.getDescription());
         Category updatedCategory = categoryRepository.save(existingCategory);
+        suggestIndex.putCategoryAfterCommit(updatedCategory);
+        facetIndex.putCategoryAfterCommit(updatedCategory);
         log.info("Category updated successfully: {}", id);
         return toResponseDTO(updatedCategory);
     }
@@ -67,6 +75,8 @@ public class CategoryService {
         log.info("Deleting category with ID: {}", id);
         Category category = findById(id);
         categoryRepository.delete(category);
+        suggestIndex.removeCategoryAfterCommit(id);
+        facetIndex.removeCategoryAfterCommit(id);
         log.info("Category deleted successfully: {}", id);
     }
 
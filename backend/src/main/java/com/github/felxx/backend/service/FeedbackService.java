@@ -8,9 +8,7 @@ import com.github.felxx.backend.model.Feedback;
 import com.github.felxx.backend.model.Person;
 import com.github.felxx.backend.model.Auction;
 import com.github.felxx.backend.model.AuctionStatus;
-import com.github.felxx.backend.model.Bid;
 import com.github.felxx.backend.repository.AuctionRepository;
-import java.util.Comparator;
 import com.github.felxx.backend.repository.FeedbackRepository;
 import com.github.felxx.backend.repository.PersonRepository;
 import lombok.RequiredArgsConstructor;
@@ -50,11 +48,11 @@ public class FeedbackService {
             throw new BusinessException("Feedback can only be given for closed auctions");
         }
 
-        Bid winningBid = auction.getBids().stream()
-                .max(Comparator.comparing(Bid::getAmount))
-                .orElseThrow(() -> new BusinessException("This auction has no bids"));
+        if (auction.getLeadingBidderId() == null) {
+            throw new BusinessException("This auction has no bids");
+        }
 
-        if (!winningBid.getBidder().getId().equals(writer.getId())) {
+        if (!auction.getLeadingBidderId().equals(writer.getId())) {
              throw new BusinessException("Only the auction winner can leave feedback");
         }
 
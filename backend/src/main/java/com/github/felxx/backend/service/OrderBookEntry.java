@@ -0,0 +1,27 @@
+package com.github.felxx.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderBookEntry {
+
+    public static final OrderBookEntry EMPTY = new OrderBookEntry(null, 0, null, null);
+
+    private final Float highestAmount;
+    private final int bidCount;
+    private final Long leadingBidId;
+    private final Long leadingBidderId;
+
+    public boolean hasBids() {
+        return highestAmount != null;
+    }
+
+    public OrderBookEntry withBid(Long bidId, float amount, Long bidderId) {
+        if (highestAmount != null && amount <= highestAmount) {
+            return new OrderBookEntry(highestAmount, bidCount + 1, leadingBidId, leadingBidderId);
+        }
+        return new OrderBookEntry(amount, bidCount + 1, bidId, bidderId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.OutbidNotificationDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.repository.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutbidNotifier {
+
+    private static final String OUTBID_DESTINATION = "/queue/outbid";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PersonRepository personRepository;
+
+    private final Map<Long, String> emails = new ConcurrentHashMap<>();
+
+    public void onLeaderChange(Auction auction, OrderBookEntry before, OrderBookEntry after) {
+        Long previousLeaderId = before.getLeadingBidderId();
+        if (previousLeaderId == null || Objects.equals(previousLeaderId, after.getLeadingBidderId())) {
+            return;
+        }
+        String email = emails.computeIfAbsent(previousLeaderId,
+                id -> personRepository.findEmailById(id).orElse(null));
+        if (email == null) {
+            return;
+        }
+
+        OutbidNotificationDTO notification = new OutbidNotificationDTO(
+                auction.getId(),
+                auction.getTitle(),
+                before.getHighestAmount(),
+                after.getHighestAmount(),
+                LocalDateTime.now()
+        );
+        afterCommit(() -> send(email, notification));
+    }
+
+    private void send(String email, OutbidNotificationDTO notification) {
+        try {
+            messagingTemplate.convertAndSendToUser(email, OUTBID_DESTINATION, notification);
+        } catch (RuntimeException e) {
+            log.warn("Could not notify outbid bidder on auction {}", notification.getAuctionId(), e);
+        }
+    }
+}
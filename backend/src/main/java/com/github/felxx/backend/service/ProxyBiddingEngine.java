@@ -0,0 +1,152 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.model.ProxyBid;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.ProxyBidRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class ProxyBiddingEngine {
+
+    private final ProxyBidRepository proxyBidRepository;
+    private final AuctionRepository auctionRepository;
+    private final BidRecorder bidRecorder;
+    private final AuctionOrderBook orderBook;
+    private final float increment;
+
+    // Positive cache only: proxies registered on other nodes are found through Auction.proxiesActive
+    private final Set<Long> auctionsWithProxies = ConcurrentHashMap.newKeySet();
+
+    public ProxyBiddingEngine(
+            ProxyBidRepository proxyBidRepository,
+            AuctionRepository auctionRepository,
+            BidRecorder bidRecorder,
+            AuctionOrderBook orderBook,
+            @Value("${app.bidding.proxy-increment:1.0}") float increment) {
+        this.proxyBidRepository = proxyBidRepository;
+        this.auctionRepository = auctionRepository;
+        this.bidRecorder = bidRecorder;
+        this.orderBook = orderBook;
+        this.increment = increment;
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int flagged = auctionRepository.backfillProxiesActive(AuctionStatus.OPEN);
+        if (flagged > 0) {
+            log.info("Flagged {} open auctions with active proxies", flagged);
+        }
+        auctionsWithProxies.addAll(proxyBidRepository.findAuctionIdsWithActiveProxies(AuctionStatus.OPEN));
+        log.info("Proxy bidding engine tracking {} auctions with active proxies", auctionsWithProxies.size());
+    }
+
+    public ProxyBid register(Auction auction, Person bidder, float maxAmount) {
+        proxyBidRepository.findFirstByAuctionIdAndBidderIdAndActiveTrue(auction.getId(), bidder.getId())
+                .ifPresent(previous -> previous.setActive(false));
+
+        ProxyBid proxy = new ProxyBid();
+        proxy.setAuction(auction);
+        proxy.setBidder(bidder);
+        proxy.setMaxAmount(maxAmount);
+        proxy.setCreatedAt(LocalDateTime.now());
+        proxy.setActive(true);
+        ProxyBid saved = proxyBidRepository.save(proxy);
+        auctionRepository.markProxiesActive(auction.getId());
+        auctionsWithProxies.add(auction.getId());
+        return saved;
+    }
+
+    public List<Bid> resolve(Auction auction) {
+        if (!auction.isProxiesActive() && !auctionsWithProxies.contains(auction.getId())) {
+            return List.of();
+        }
+        List<ProxyBid> proxies = proxyBidRepository.findActiveByAuctionId(auction.getId());
+        if (proxies.isEmpty()) {
+            forget(auction);
+            return List.of();
+        }
+        auctionsWithProxies.add(auction.getId());
+
+        OrderBookEntry book = orderBook.get(auction.getId());
+        Float highest = book.getHighestAmount();
+        Long leaderId = book.getLeadingBidderId();
+        ProxyBid winner = proxies.get(0);
+        ProxyBid runnerUp = proxies.size() > 1 ? proxies.get(1) : null;
+        boolean tied = runnerUp != null && runnerUp.getMaxAmount().equals(winner.getMaxAmount());
+        List<Bid> placed = new ArrayList<>();
+
+        if (runnerUp != null && !tied && isAdmissible(runnerUp.getMaxAmount(), highest, auction)) {
+            placed.add(place(auction, runnerUp.getBidder(), runnerUp.getMaxAmount()));
+            highest = runnerUp.getMaxAmount();
+            leaderId = runnerUp.getBidder().getId();
+        }
+
+        if (tied) {
+            if (isAdmissible(winner.getMaxAmount(), highest, auction)) {
+                placed.add(place(auction, winner.getBidder(), winner.getMaxAmount()));
+                highest = winner.getMaxAmount();
+                leaderId = winner.getBidder().getId();
+            }
+        } else if (!winner.getBidder().getId().equals(leaderId)) {
+            float target = highest == null
+                    ? auction.getMinimumBid()
+                    : Math.min(winner.getMaxAmount(), highest + increment);
+            if (isAdmissible(target, highest, auction)) {
+                placed.add(place(auction, winner.getBidder(), target));
+                highest = target;
+                leaderId = winner.getBidder().getId();
+            }
+        }
+
+        boolean anyActive = false;
+        for (ProxyBid proxy : proxies) {
+            boolean leading = proxy.getBidder().getId().equals(leaderId);
+            if (!leading && !isAdmissible(proxy.getMaxAmount(), highest, auction)) {
+                proxy.setActive(false);
+            } else {
+                anyActive = true;
+            }
+        }
+        if (!anyActive) {
+            forget(auction);
+        }
+
+        if (!placed.isEmpty()) {
+            log.info("Proxy resolution for auction {} placed {} bids, current price {}", auction.getId(), placed.size(), highest);
+        }
+        return placed;
+    }
+
+    private void forget(Auction auction) {
+        auctionsWithProxies.remove(auction.getId());
+        if (auction.isProxiesActive()) {
+            // Only cleared when no active proxy exists in the database, so one registered meanwhile keeps it set
+            auctionRepository.clearProxiesActive(auction.getId());
+        }
+    }
+
+    private boolean isAdmissible(float amount, Float highest, Auction auction) {
+        return highest == null ? amount >= auction.getMinimumBid() : amount > highest;
+    }
+
+    private Bid place(Auction auction, Person bidder, float amount) {
+        return bidRecorder.record(auction, bidder, amount);
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchlistIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final WatchlistRepository watchlistRepository;
+
+    private final Map<Long, long[]> watchersByAuction = new ConcurrentHashMap<>();
+    private final Map<Long, String> emails = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Map<Long, long[]> loaded = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (Object[] row : watchlistRepository.findWatchersByAuctionStatusNot(AuctionStatus.CLOSED)) {
+            Long auctionId = (Long) row[0];
+            long personId = (Long) row[1];
+            emails.put(personId, (String) row[2]);
+            long[] watchers = loaded.computeIfAbsent(auctionId, id -> new long[8]);
+            int size = sizes.getOrDefault(auctionId, 0);
+            if (size == watchers.length) {
+                watchers = Arrays.copyOf(watchers, size * 2);
+                loaded.put(auctionId, watchers);
+            }
+            watchers[size] = personId;
+            sizes.put(auctionId, size + 1);
+        }
+        loaded.forEach((auctionId, watchers) -> {
+            long[] sorted = Arrays.copyOf(watchers, sizes.get(auctionId));
+            Arrays.sort(sorted);
+            watchersByAuction.merge(auctionId, sorted, WatchlistIndex::union);
+        });
+        log.info("Watchlist index loaded for {} auctions", loaded.size());
+    }
+
+    public long[] watchers(Long auctionId) {
+        return watchersByAuction.getOrDefault(auctionId, NONE);
+    }
+
+    public String emailOf(long personId) {
+        return emails.get(personId);
+    }
+
+    public void add(Long auctionId, long personId, String email) {
+        emails.put(personId, email);
+        watchersByAuction.compute(auctionId, (id, watchers) -> {
+            long[] current = watchers != null ? watchers : NONE;
+            int position = Arrays.binarySearch(current, personId);
+            if (position >= 0) {
+                return current;
+            }
+            int insertAt = -position - 1;
+            long[] updated = new long[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = personId;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+            return updated;
+        });
+    }
+
+    public void remove(Long auctionId, long personId) {
+        watchersByAuction.computeIfPresent(auctionId, (id, current) -> {
+            int position = Arrays.binarySearch(current, personId);
+            if (position < 0) {
+                return current;
+            }
+            if (current.length == 1) {
+                return null;
+            }
+            long[] updated = new long[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, position);
+            System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+            return updated;
+        });
+    }
+
+    public void removeAuction(Long auctionId) {
+        watchersByAuction.remove(auctionId);
+    }
+
+    private static long[] union(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            long next;
+            if (j == right.length || (i < left.length && left[i] <= right[j])) {
+                next = left[i++];
+            } else {
+                next = right[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+}
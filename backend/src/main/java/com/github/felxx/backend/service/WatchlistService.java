@@ -0,0 +1,101 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.watchlist.WatchlistResponseDTO;
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.exception.NotFoundException;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.model.Watchlist;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.PersonRepository;
+import com.github.felxx.backend.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.github.felxx.backend.service.TransactionCallbacks.afterCommit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WatchlistService {
+
+    private final WatchlistRepository watchlistRepository;
+    private final PersonRepository personRepository;
+    private final AuctionRepository auctionRepository;
+    private final WatchlistIndex watchlistIndex;
+
+    @Transactional
+    public WatchlistResponseDTO watch(Long auctionId) {
+        Person person = currentPerson();
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new NotFoundException("Auction not found with id: " + auctionId));
+
+        if (auction.getStatus() == AuctionStatus.CLOSED) {
+            throw new BusinessException("Closed auctions cannot be watched");
+        }
+        if (watchlistRepository.existsByPersonIdAndAuctionId(person.getId(), auctionId)) {
+            throw new BusinessException("Auction is already in your watchlist");
+        }
+
+        Watchlist watchlist = new Watchlist();
+        watchlist.setPerson(person);
+        watchlist.setAuction(auction);
+        watchlist.setCreatedAt(LocalDateTime.now());
+        watchlistRepository.save(watchlist);
+
+        Long personId = person.getId();
+        String email = person.getEmail();
+        afterCommit(() -> watchlistIndex.add(auctionId, personId, email));
+        log.info("Person {} is now watching auction {}", personId, auctionId);
+        return toResponseDTO(watchlist);
+    }
+
+    @Transactional
+    public void unwatch(Long auctionId) {
+        Person person = currentPerson();
+        Watchlist watchlist = watchlistRepository.findByPersonIdAndAuctionId(person.getId(), auctionId)
+                .orElseThrow(() -> new NotFoundException("Auction is not in your watchlist"));
+        watchlistRepository.delete(watchlist);
+
+        Long personId = person.getId();
+        afterCommit(() -> watchlistIndex.remove(auctionId, personId));
+    }
+
+    public Page<WatchlistResponseDTO> findMine(Pageable pageable) {
+        return watchlistRepository.findByPersonId(currentPerson().getId(), pageable).map(this::toResponseDTO);
+    }
+
+    @Transactional
+    public void removeAuction(Long auctionId) {
+        watchlistRepository.deleteByAuctionId(auctionId);
+        afterCommit(() -> watchlistIndex.removeAuction(auctionId));
+    }
+
+    private Person currentPerson() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return personRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new NotFoundException("Person not found"));
+    }
+
+    private WatchlistResponseDTO toResponseDTO(Watchlist watchlist) {
+        Auction auction = watchlist.getAuction();
+        return new WatchlistResponseDTO(
+                auction.getId(),
+                auction.getTitle(),
+                auction.getStatus(),
+                auction.getEndDateTime(),
+                auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getMinimumBid(),
+                watchlist.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,282 @@
+package com.github.felxx.backend.sse;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionResumeDTO;
+import com.github.felxx.backend.dto.websocket.AuctionSnapshotDTO;
+import com.github.felxx.backend.dto.websocket.SequencedEvent;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import com.github.felxx.backend.service.AuctionEventLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AuctionSseRegistry implements AuctionEventSubscriber {
+
+    private static final long UNSEQUENCED = 0L;
+
+    private final long timeoutMillis;
+    private final int maxPendingEvents;
+    private final ThreadPoolTaskExecutor dispatcher;
+    private final AuctionEventLog eventLog;
+    private final Counter droppedCounter;
+    private final Counter resyncedCounter;
+
+    private final Map<Long, Set<Watcher>> watchers = new ConcurrentHashMap<>();
+    private final Set<Watcher> suspects = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger watcherCount = new AtomicInteger();
+
+    public AuctionSseRegistry(
+            MeterRegistry meterRegistry,
+            @Lazy AuctionEventLog eventLog,
+            @Value("${app.sse.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.sse.max-pending-events:64}") int maxPendingEvents,
+            @Value("${app.sse.dispatcher-threads:4}") int dispatcherThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxPendingEvents = Math.max(1, maxPendingEvents);
+        this.dispatcher = new ThreadPoolTaskExecutor();
+        this.dispatcher.setCorePoolSize(Math.max(1, dispatcherThreads));
+        this.dispatcher.setMaxPoolSize(Math.max(1, dispatcherThreads));
+        this.dispatcher.setThreadNamePrefix("sse-dispatch-");
+        this.dispatcher.initialize();
+        this.eventLog = eventLog;
+        this.droppedCounter = Counter.builder("sse.watchers.dropped")
+                .description("Observadores SSE desconectados por não acompanharem os eventos")
+                .register(meterRegistry);
+        this.resyncedCounter = Counter.builder("sse.watchers.resynced")
+                .description("Observadores SSE desconectados para retomar após perda de eventos no barramento")
+                .register(meterRegistry);
+        Gauge.builder("sse.watchers.active", watcherCount, AtomicInteger::get)
+                .description("Observadores SSE conectados")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter watch(Long auctionId, Supplier<AuctionResumeDTO> initialState) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Watcher watcher = new Watcher(auctionId, emitter);
+        emitter.onCompletion(() -> remove(watcher));
+        emitter.onTimeout(() -> remove(watcher));
+        emitter.onError(error -> remove(watcher));
+
+        watchers.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(watcher);
+        watcherCount.incrementAndGet();
+
+        try {
+            watcher.prime(initialState.get());
+        } catch (RuntimeException e) {
+            remove(watcher);
+            throw e;
+        }
+        schedule(watcher);
+        return emitter;
+    }
+
+    @Override
+    public String getName() {
+        return "sse";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        publish(event.getAuctionId(), event.getType(), event.getPayload());
+    }
+
+    @Override
+    public void onEventsLost(long count) {
+        // The lost events are already overwritten, so which auctions they belonged to is only known once the
+        // bus has caught up: the next heartbeat compares each watcher with the event log
+        watchers.values().forEach(suspects::addAll);
+        log.info("Lost {} events, checking {} SSE watchers on the next heartbeat", count, suspects.size());
+    }
+
+    private void publish(Long auctionId, AuctionEventType type, SequencedEvent event) {
+        Set<Watcher> auctionWatchers = watchers.get(auctionId);
+        if (auctionWatchers == null || auctionWatchers.isEmpty()) {
+            return;
+        }
+        PendingEvent pending = toPending(type, event);
+        for (Watcher watcher : auctionWatchers) {
+            watcher.offered.accumulateAndGet(pending.sequence, Math::max);
+            if (watcher.offer(pending)) {
+                schedule(watcher);
+            } else {
+                droppedCounter.increment();
+                log.debug("SSE watcher of auction {} fell behind and was disconnected", auctionId);
+                remove(watcher);
+                watcher.emitter.complete();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        resyncSuspects();
+        PendingEvent ping = new PendingEvent(UNSEQUENCED, SseEmitter.event().comment("ping").build());
+        watchers.values().forEach(auctionWatchers -> auctionWatchers.forEach(watcher -> {
+            if (watcher.offer(ping)) {
+                schedule(watcher);
+            }
+        }));
+    }
+
+    private void resyncSuspects() {
+        int resynced = 0;
+        for (Watcher watcher : suspects) {
+            suspects.remove(watcher);
+            if (watcher.offered.get() < eventLog.lastSequence(watcher.auctionId)) {
+                remove(watcher);
+                watcher.emitter.complete();
+                resynced++;
+            }
+        }
+        if (resynced > 0) {
+            resyncedCounter.increment(resynced);
+            log.info("Closed {} SSE watchers that missed events so they resume from Last-Event-ID", resynced);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchers.values().forEach(auctionWatchers -> auctionWatchers.forEach(watcher -> watcher.emitter.complete()));
+        watchers.clear();
+        dispatcher.shutdown();
+    }
+
+    private void schedule(Watcher watcher) {
+        if (watcher.primed && watcher.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(watcher));
+        }
+    }
+
+    private void drain(Watcher watcher) {
+        try {
+            PendingEvent event;
+            while ((event = watcher.poll()) != null) {
+                if (event.sequence != UNSEQUENCED && event.sequence <= watcher.lastSequence) {
+                    continue;
+                }
+                watcher.emitter.send(event.data);
+                if (event.sequence != UNSEQUENCED) {
+                    watcher.lastSequence = event.sequence;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE watcher of auction {} disconnected: {}", watcher.auctionId, e.getMessage());
+            remove(watcher);
+            return;
+        } finally {
+            watcher.scheduled.set(false);
+        }
+        if (watcher.hasPending()) {
+            schedule(watcher);
+        }
+    }
+
+    private void remove(Watcher watcher) {
+        Set<Watcher> auctionWatchers = watchers.get(watcher.auctionId);
+        suspects.remove(watcher);
+        if (auctionWatchers != null && auctionWatchers.remove(watcher)) {
+            watcherCount.decrementAndGet();
+            watchers.computeIfPresent(watcher.auctionId, (id, set) -> set.isEmpty() ? null : set);
+        }
+    }
+
+    private static PendingEvent toPending(AuctionEventType type, SequencedEvent event) {
+        return new PendingEvent(event.getSequence(), SseEmitter.event()
+                .id(String.valueOf(event.getSequence()))
+                .name(type == AuctionEventType.STATUS ? "status" : "bid")
+                .data(event, MediaType.APPLICATION_JSON)
+                .build());
+    }
+
+    private record PendingEvent(long sequence, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+
+    private class Watcher {
+        private final Long auctionId;
+        private final SseEmitter emitter;
+        private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong offered = new AtomicLong(Long.MIN_VALUE);
+        private volatile boolean primed;
+        private long lastSequence = Long.MIN_VALUE;
+
+        private Watcher(Long auctionId, SseEmitter emitter) {
+            this.auctionId = auctionId;
+            this.emitter = emitter;
+        }
+
+        private void prime(AuctionResumeDTO state) {
+            List<PendingEvent> initial = new ArrayList<>();
+            AuctionSnapshotDTO snapshot = state.getSnapshot();
+            if (snapshot != null) {
+                initial.add(new PendingEvent(snapshot.getSequence(), SseEmitter.event()
+                        .id(String.valueOf(snapshot.getSequence()))
+                        .name("snapshot")
+                        .data(snapshot, MediaType.APPLICATION_JSON)
+                        .build()));
+            }
+            for (AuctionEventDTO event : state.getEvents()) {
+                initial.add(toPending(event.getType(), event.getPayload()));
+            }
+            try {
+                for (PendingEvent event : initial) {
+                    emitter.send(event.data);
+                    lastSequence = Math.max(lastSequence, event.sequence);
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            offered.accumulateAndGet(lastSequence, Math::max);
+            primed = true;
+        }
+
+        private boolean offer(PendingEvent event) {
+            if (pendingCount.incrementAndGet() > maxPendingEvents) {
+                pendingCount.decrementAndGet();
+                return false;
+            }
+            pending.add(event);
+            return true;
+        }
+
+        private PendingEvent poll() {
+            PendingEvent event = pending.poll();
+            if (event != null) {
+                pendingCount.decrementAndGet();
+            }
+            return event;
+        }
+
+        private boolean hasPending() {
+            return !pending.isEmpty();
+        }
+    }
+}
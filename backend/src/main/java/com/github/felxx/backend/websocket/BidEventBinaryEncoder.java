@@ -0,0 +1,116 @@
+package com.github.felxx.backend.websocket;
+
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+@Component
+public class BidEventBinaryEncoder {
+
+    public static final byte VERSION = 1;
+    public static final byte TYPE_BID = 1;
+
+    private static final int FIXED_SIZE = 1 + 1 + 8 + 8 + 8 + 4 + 4 + 4 + 8 + 2;
+    private static final int MAX_NAME_BYTES = 255;
+    private static final byte REPLACEMENT = '?';
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final ZoneRules zoneRules = ZoneId.systemDefault().getRules();
+
+    // The payload array is the only allocation: its exact size is measured first and every field is
+    // written into it in place, so no scratch buffer or trailing copy is needed
+    public byte[] encode(BidNotificationDTO notification) {
+        String bidderName = notification.getBidderName() != null ? notification.getBidderName() : "";
+        int nameLength = utf8Length(bidderName, MAX_NAME_BYTES);
+        byte[] frame = new byte[FIXED_SIZE + nameLength];
+
+        frame[0] = VERSION;
+        frame[1] = TYPE_BID;
+        LONG.set(frame, 2, notification.getAuctionId());
+        LONG.set(frame, 10, notification.getSequence() != null ? notification.getSequence() : 0L);
+        LONG.set(frame, 18, notification.getBidId() != null ? notification.getBidId() : -1L);
+        INT.set(frame, 26, Float.floatToIntBits(notification.getAmount() != null ? notification.getAmount() : 0f));
+        INT.set(frame, 30, Float.floatToIntBits(
+                notification.getCurrentPrice() != null ? notification.getCurrentPrice() : 0f));
+        INT.set(frame, 34, notification.getTotalBids() != null ? notification.getTotalBids() : 0);
+        LONG.set(frame, 38, epochMillis(notification.getBidDateTime()));
+        SHORT.set(frame, 46, (short) nameLength);
+        writeUtf8(bidderName, frame, FIXED_SIZE, nameLength);
+        return frame;
+    }
+
+    private long epochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(zoneRules.getOffset(dateTime)) * 1000L + dateTime.getNano() / 1_000_000;
+    }
+
+    // Bytes needed for the longest prefix of whole code points that fits in limit
+    private static int utf8Length(String value, int limit) {
+        int length = 0;
+        for (int i = 0; i < value.length(); ) {
+            int width = codePointWidth(value, i);
+            int bytes = width == 2 ? 4 : utf8Bytes(value.charAt(i));
+            if (length + bytes > limit) {
+                break;
+            }
+            length += bytes;
+            i += width;
+        }
+        return length;
+    }
+
+    private static void writeUtf8(String value, byte[] target, int offset, int length) {
+        int position = offset;
+        int end = offset + length;
+        for (int i = 0; position < end; ) {
+            char c = value.charAt(i);
+            if (codePointWidth(value, i) == 2) {
+                int codePoint = Character.toCodePoint(c, value.charAt(i + 1));
+                target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                i += 2;
+                continue;
+            }
+            if (Character.isSurrogate(c)) {
+                target[position++] = REPLACEMENT;
+            } else if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+            i++;
+        }
+    }
+
+    // 2 for a valid surrogate pair starting at index, 1 otherwise
+    private static int codePointWidth(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1)) ? 2 : 1;
+    }
+
+    // Lone surrogates are written as a single replacement byte, like the JDK encoder does
+    private static int utf8Bytes(char c) {
+        if (c < 0x80 || Character.isSurrogate(c)) {
+            return 1;
+        }
+        return c < 0x800 ? 2 : 3;
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.felxx.backend.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class BinarySubscriptions implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String ENCODING_HEADER = "encoding";
+    public static final String BINARY_ENCODING = "binary";
+    public static final String BINARY_SUFFIX = ".bin";
+    public static final String NATIVE_TRANSPORT_ATTRIBUTE = "binarySubscriptions.nativeTransport";
+
+    private static final Pattern BID_TOPIC = Pattern.compile("^/topic/auction/(\\d+)$");
+
+    private final Map<Long, AtomicInteger> subscribersByAuction = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new ConcurrentHashMap<>();
+    private final boolean relayed;
+
+    public BinarySubscriptions(@Value("${app.websocket.broker:simple}") String brokerMode) {
+        this.relayed = "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    public boolean hasSubscribers(Long auctionId) {
+        // Behind a relay the binary subscribers may be connected to other nodes, which are not counted here
+        if (relayed) {
+            return true;
+        }
+        AtomicInteger count = subscribersByAuction.get(auctionId);
+        return count != null && count.get() > 0;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case SUBSCRIBE -> subscribe(accessor);
+            case UNSUBSCRIBE -> unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> disconnect(accessor.getSessionId());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    // Registered on /ws-native only; SockJS transports cannot carry binary frames
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(NATIVE_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private void subscribe(StompHeaderAccessor accessor) {
+        if (!BINARY_ENCODING.equalsIgnoreCase(accessor.getFirstNativeHeader(ENCODING_HEADER))
+                || accessor.getDestination() == null) {
+            return;
+        }
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null || !Boolean.TRUE.equals(sessionAttributes.get(NATIVE_TRANSPORT_ATTRIBUTE))) {
+            log.debug("Session {} asked for binary bid events over SockJS, keeping JSON", accessor.getSessionId());
+            return;
+        }
+        Matcher matcher = BID_TOPIC.matcher(accessor.getDestination());
+        if (!matcher.matches() || !accessor.isMutable()) {
+            return;
+        }
+        Long auctionId = Long.valueOf(matcher.group(1));
+        accessor.setDestination(accessor.getDestination() + BINARY_SUFFIX);
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), auctionId);
+        subscribersByAuction.computeIfAbsent(auctionId, id -> new AtomicInteger()).incrementAndGet();
+        log.debug("Session {} subscribed to binary bid events of auction {}", accessor.getSessionId(), auctionId);
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionId != null ? subscriptionsBySession.get(sessionId) : null;
+        if (subscriptions == null || subscriptionId == null) {
+            return;
+        }
+        Long auctionId = subscriptions.remove(subscriptionId);
+        if (auctionId != null) {
+            release(auctionId);
+        }
+    }
+
+    private void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessionId != null ? subscriptionsBySession.remove(sessionId) : null;
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Long auctionId) {
+        subscribersByAuction.computeIfPresent(auctionId, (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
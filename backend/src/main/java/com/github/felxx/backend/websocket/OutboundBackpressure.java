@@ -0,0 +1,172 @@
+package com.github.felxx.backend.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class OutboundBackpressure implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String BID_TOPIC_PREFIX = "/topic/auction/";
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE".getBytes(StandardCharsets.US_ASCII);
+
+    private final MessageChannel clientOutboundChannel;
+    private final long slowSessionThresholdBytes;
+    private final Counter droppedCounter;
+
+    private final Map<String, OutboundSessionStats> sessions = new ConcurrentHashMap<>();
+
+    public OutboundBackpressure(
+            @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.outbound.slow-session-threshold-bytes:65536}") long slowSessionThresholdBytes) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.slowSessionThresholdBytes = slowSessionThresholdBytes;
+        this.droppedCounter = Counter.builder("websocket.outbound.dropped")
+                .description("Atualizações de lance descartadas para sessões lentas")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.bytes", sessions,
+                        map -> map.values().stream().mapToLong(OutboundSessionStats::getQueuedBytes).sum())
+                .description("Bytes aguardando envio para os clientes WebSocket")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.slow.sessions", sessions,
+                        map -> map.values().stream().filter(this::isSlow).count())
+                .description("Sessões WebSocket acima do limite de bytes pendentes")
+                .register(meterRegistry);
+    }
+
+    public Collection<OutboundSessionStats> getSessions() {
+        return sessions.values();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getSessionId() == null) {
+            return message;
+        }
+        OutboundSessionStats stats = sessions.get(accessor.getSessionId());
+        if (stats == null) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (isSlow(stats) && isConflatable(destination)) {
+            if (stats.parked.put(destination, message) != null) {
+                stats.dropped();
+                droppedCounter.increment();
+            }
+            flushParked(stats);
+            return null;
+        }
+
+        stats.enqueued(payloadSize(message));
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                OutboundSessionStats stats = new OutboundSessionStats(session.getId());
+                sessions.put(session.getId(), stats);
+                super.afterConnectionEstablished(new MeteredSession(session, stats));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                OutboundSessionStats stats = sessions.remove(session.getId());
+                if (stats != null && stats.getDroppedMessages() > 0) {
+                    log.info("WebSocket session {} closed after {} bid updates were dropped for being slow",
+                            session.getId(), stats.getDroppedMessages());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private boolean isSlow(OutboundSessionStats stats) {
+        return stats.getQueuedBytes() > slowSessionThresholdBytes;
+    }
+
+    private static boolean isConflatable(String destination) {
+        return destination != null
+                && destination.startsWith(BID_TOPIC_PREFIX)
+                && destination.indexOf('/', BID_TOPIC_PREFIX.length()) < 0;
+    }
+
+    private static int payloadSize(Message<?> message) {
+        return message.getPayload() instanceof byte[] bytes ? bytes.length : 0;
+    }
+
+    private void flushParked(OutboundSessionStats stats) {
+        if (stats.parked.isEmpty() || isSlow(stats)) {
+            return;
+        }
+        for (String destination : stats.parked.keySet()) {
+            Message<?> latest = stats.parked.remove(destination);
+            if (latest != null) {
+                clientOutboundChannel.send(latest);
+            }
+        }
+    }
+
+    private static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith("MESSAGE");
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            return payload.remaining() >= MESSAGE_COMMAND.length
+                    && payload.slice(payload.position(), MESSAGE_COMMAND.length).equals(ByteBuffer.wrap(MESSAGE_COMMAND));
+        }
+        return false;
+    }
+
+    private class MeteredSession extends WebSocketSessionDecorator {
+
+        private final OutboundSessionStats stats;
+
+        private MeteredSession(WebSocketSession session, OutboundSessionStats stats) {
+            super(session);
+            this.stats = stats;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            if (isMessageFrame(message)) {
+                stats.sent();
+                flushParked(stats);
+            }
+        }
+    }
+}
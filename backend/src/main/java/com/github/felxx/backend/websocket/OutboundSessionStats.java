@@ -0,0 +1,66 @@
+package com.github.felxx.backend.websocket;
+
+import lombok.Getter;
+import org.springframework.messaging.Message;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OutboundSessionStats {
+
+    @Getter
+    private final String sessionId;
+
+    @Getter
+    private final long connectedAt = System.currentTimeMillis();
+
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final Queue<Integer> inFlight = new ConcurrentLinkedQueue<>();
+    final Map<String, Message<?>> parked = new ConcurrentHashMap<>();
+
+    public OutboundSessionStats(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public int getQueuedMessages() {
+        return inFlight.size();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public int getParkedMessages() {
+        return parked.size();
+    }
+
+    void enqueued(int bytes) {
+        inFlight.add(bytes);
+        queuedBytes.addAndGet(bytes);
+    }
+
+    void sent() {
+        Integer bytes = inFlight.poll();
+        if (bytes != null) {
+            queuedBytes.addAndGet(-bytes);
+            sentMessages.incrementAndGet();
+        }
+    }
+
+    void dropped() {
+        droppedMessages.incrementAndGet();
+    }
+}
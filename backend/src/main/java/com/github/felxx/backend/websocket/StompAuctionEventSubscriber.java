@@ -0,0 +1,47 @@
+package com.github.felxx.backend.websocket;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class StompAuctionEventSubscriber implements AuctionEventSubscriber {
+
+    private static final Map<String, Object> BINARY_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BinarySubscriptions binarySubscriptions;
+    private final BidEventBinaryEncoder binaryEncoder;
+
+    @Override
+    public String getName() {
+        return "stomp";
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        String destination = destination(event.getAuctionId(), event.getType());
+        messagingTemplate.convertAndSend(destination, event.getPayload());
+        if (event.getPayload() instanceof BidNotificationDTO notification
+                && binarySubscriptions.hasSubscribers(event.getAuctionId())) {
+            messagingTemplate.convertAndSend(destination + BinarySubscriptions.BINARY_SUFFIX,
+                    binaryEncoder.encode(notification), BINARY_HEADERS);
+        }
+    }
+
+    private static String destination(Long auctionId, AuctionEventType type) {
+        return type == AuctionEventType.STATUS
+                ? "/topic/auction/" + auctionId + "/status"
+                : "/topic/auction/" + auctionId;
+    }
+}
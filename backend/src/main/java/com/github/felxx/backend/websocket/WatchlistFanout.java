@@ -0,0 +1,231 @@
+package com.github.felxx.backend.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.felxx.backend.dto.websocket.AuctionEventDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.event.AuctionEventSubscriber;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.service.WatchlistIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class WatchlistFanout implements AuctionEventSubscriber {
+
+    private static final String WATCHLIST_DESTINATION = "/queue/watchlist";
+
+    private final WatchlistIndex watchlistIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer fanoutTimer;
+    private final Counter sentCounter;
+    private final Counter offlineCounter;
+    private final Counter coalescedCounter;
+
+    // Events waiting for the fan-out of their auction; a slot exists while that fan-out runs, so only one
+    // runs per auction at a time
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public WatchlistFanout(
+            WatchlistIndex watchlistIndex,
+            SimpMessagingTemplate messagingTemplate,
+            SimpUserRegistry userRegistry,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.watchlist.fanout-batch-size:1000}") int batchSize,
+            @Value("${app.watchlist.fanout-threads:4}") int threads) {
+        this.watchlistIndex = watchlistIndex;
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, threads));
+        this.executor.setMaxPoolSize(Math.max(1, threads));
+        this.executor.setThreadNamePrefix("watchlist-fanout-");
+        this.executor.initialize();
+        this.fanoutTimer = Timer.builder("watchlist.fanout.time")
+                .description("Tempo para distribuir um evento de leilão aos observadores da lista")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("watchlist.fanout.sent")
+                .description("Eventos entregues a observadores conectados")
+                .register(meterRegistry);
+        this.offlineCounter = Counter.builder("watchlist.fanout.offline")
+                .description("Observadores ignorados por não estarem conectados")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("watchlist.fanout.coalesced")
+                .description("Lances substituídos por um mais recente antes da distribuição")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "watchlist";
+    }
+
+    // Runs on the event bus thread, so it only queues the event; serialization and delivery happen on the
+    // fan-out executor. A waiting bid is replaced by a newer one that directly follows it, as watchers only
+    // need the latest price.
+    @Override
+    public void onEvent(AuctionEvent event) {
+        Long auctionId = event.getAuctionId();
+        if (watchlistIndex.watchers(auctionId).length == 0) {
+            return;
+        }
+        boolean[] start = new boolean[1];
+        slots.compute(auctionId, (id, slot) -> {
+            if (slot == null) {
+                slot = new Slot();
+                start[0] = true;
+            }
+            int last = slot.pending.size() - 1;
+            if (event.getType() == AuctionEventType.BID && last >= 0
+                    && slot.pending.get(last).getType() == AuctionEventType.BID) {
+                slot.pending.set(last, event);
+                coalescedCounter.increment();
+            } else {
+                slot.pending.add(event);
+            }
+            return slot;
+        });
+        if (start[0]) {
+            executor.execute(() -> drain(auctionId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void drain(Long auctionId) {
+        List<AuctionEvent> events = new ArrayList<>();
+        slots.computeIfPresent(auctionId, (id, slot) -> {
+            events.addAll(slot.pending);
+            slot.pending.clear();
+            return events.isEmpty() ? null : slot;
+        });
+        if (events.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        long[] watchers = watchlistIndex.watchers(auctionId);
+        if (events.stream().anyMatch(WatchlistFanout::isClose)) {
+            watchlistIndex.removeAuction(auctionId);
+        }
+        List<byte[]> payloads = serialize(events);
+        if (watchers.length == 0 || payloads.isEmpty()) {
+            finish(auctionId);
+            return;
+        }
+
+        // Each batch sends every drained event to its watchers in order, so no watcher sees them reordered
+        AtomicInteger remaining = new AtomicInteger((watchers.length + batchSize - 1) / batchSize);
+        for (int start = 0; start < watchers.length; start += batchSize) {
+            int from = start;
+            int to = Math.min(watchers.length, start + batchSize);
+            executor.execute(() -> {
+                try {
+                    sendBatch(watchers, from, to, payloads);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        fanoutTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        finish(auctionId);
+                    }
+                }
+            });
+        }
+    }
+
+    private void finish(Long auctionId) {
+        boolean[] again = new boolean[1];
+        slots.computeIfPresent(auctionId, (id, slot) -> {
+            if (slot.pending.isEmpty()) {
+                return null;
+            }
+            again[0] = true;
+            return slot;
+        });
+        if (again[0]) {
+            executor.execute(() -> drain(auctionId));
+        }
+    }
+
+    private List<byte[]> serialize(List<AuctionEvent> events) {
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (AuctionEvent event : events) {
+            try {
+                payloads.add(objectMapper.writeValueAsBytes(
+                        new AuctionEventDTO(event.getSequence(), event.getType(), event.getPayload())));
+            } catch (JsonProcessingException e) {
+                log.warn("Could not serialize event {} of auction {}", event.getSequence(), event.getAuctionId(), e);
+            }
+        }
+        return payloads;
+    }
+
+    private static boolean isClose(AuctionEvent event) {
+        return event.getPayload() instanceof AuctionStatusUpdateDTO update && update.getStatus() == AuctionStatus.CLOSED;
+    }
+
+    private void sendBatch(long[] watchers, int from, int to, List<byte[]> payloads) {
+        int sent = 0;
+        int offline = 0;
+        for (int i = from; i < to; i++) {
+            String email = watchlistIndex.emailOf(watchers[i]);
+            if (email == null || userRegistry.getUser(email) == null) {
+                offline++;
+                continue;
+            }
+            for (byte[] payload : payloads) {
+                try {
+                    messagingTemplate.send("/user/" + email + WATCHLIST_DESTINATION, toMessage(payload));
+                    sent++;
+                } catch (RuntimeException e) {
+                    log.debug("Could not deliver watchlist event to {}: {}", email, e.getMessage());
+                }
+            }
+        }
+        sentCounter.increment(sent);
+        offlineCounter.increment(offline);
+    }
+
+    private static Message<byte[]> toMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private static class Slot {
+        private final List<AuctionEvent> pending = new ArrayList<>();
+    }
+}
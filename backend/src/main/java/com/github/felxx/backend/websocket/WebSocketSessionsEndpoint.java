@@ -0,0 +1,24 @@
+package com.github.felxx.backend.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+@Endpoint(id = "websocketsessions")
+@RequiredArgsConstructor
+public class WebSocketSessionsEndpoint {
+
+    private final OutboundBackpressure outboundBackpressure;
+
+    @ReadOperation
+    public List<OutboundSessionStats> sessions() {
+        return outboundBackpressure.getSessions().stream()
+                .sorted(Comparator.comparingLong(OutboundSessionStats::getQueuedBytes).reversed())
+                .toList();
+    }
+}
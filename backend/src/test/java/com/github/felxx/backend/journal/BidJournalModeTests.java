@@ -0,0 +1,108 @@
+package com.github.felxx.backend.journal;
+
+import com.github.felxx.backend.dto.bid.BidRequestDTO;
+import com.github.felxx.backend.dto.bid.BidResponseDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.BidRepository;
+import com.github.felxx.backend.service.AuctionOrderBook;
+import com.github.felxx.backend.service.BidRecorder;
+import com.github.felxx.backend.service.BidService;
+import com.github.felxx.backend.support.AuctionFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"app.bidding.journal.enabled=true",
+		"app.bidding.journal.flush-interval-ms=3600000"
+})
+class BidJournalModeTests {
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private BidRecorder bidRecorder;
+
+	@Autowired
+	private BidJournal journal;
+
+	@Autowired
+	private BidJournalWriter writer;
+
+	@Autowired
+	private AuctionOrderBook orderBook;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void clearAuthentication() {
+		AuctionFixtures.clearAuthentication();
+	}
+
+	@Test
+	void acceptedBidCarriesTheIdItIsPersistedUnder() {
+		Person bidder = fixtures.person("Bidder");
+		Auction auction = fixtures.openAuction(fixtures.person("Seller"), fixtures.category("Journal"), "Journaled", 1);
+		int pendingBefore = journal.getPendingCount();
+
+		AuctionFixtures.authenticate(bidder);
+		BidResponseDTO response = bidService.insert(new BidRequestDTO(15f, auction.getId()), null);
+
+		assertThat(response.getId()).isNotNull();
+		assertThat(journal.getPendingCount()).isEqualTo(pendingBefore + 1);
+		assertThat(bidRepository.findById(response.getId())).isEmpty();
+		Auction stored = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(stored.getCurrentPrice()).isEqualTo(15f);
+		assertThat(stored.getLeadingBidId()).isEqualTo(response.getId());
+
+		writer.flush();
+
+		Bid persisted = bidRepository.findById(response.getId()).orElseThrow();
+		assertThat(persisted.getAmount()).isEqualTo(15f);
+		assertThat(persisted.getBidder().getId()).isEqualTo(bidder.getId());
+		assertThat(journal.getPendingCount()).isZero();
+		assertThat(auctionRepository.findById(auction.getId()).orElseThrow().getBidCount()).isEqualTo(1);
+	}
+
+	@Test
+	void rolledBackAdmissionNeverReachesTheJournal() {
+		Person bidder = fixtures.person("Bidder");
+		Auction auction = fixtures.openAuction(fixtures.person("Seller"), fixtures.category("Journal"), "Rolled back", 1);
+		int pendingBefore = journal.getPendingCount();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			bidRecorder.record(auctionRepository.findById(auction.getId()).orElseThrow(), bidder, 30f);
+			status.setRollbackOnly();
+		});
+
+		assertThat(journal.getPendingCount()).isEqualTo(pendingBefore);
+		assertThat(orderBook.get(auction.getId()).hasBids()).isFalse();
+		assertThat(auctionRepository.findById(auction.getId()).orElseThrow().getCurrentPrice()).isNull();
+	}
+
+	@Test
+	void journalIdDefaultsToTheHostName() throws Exception {
+		assertThat(journal.getJournalId()).isEqualTo(InetAddress.getLocalHost().getHostName());
+	}
+
+}
@@ -0,0 +1,168 @@
+package com.github.felxx.backend.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidJournalTests {
+
+	private static final int ENTRY_SIZE = 48;
+
+	@TempDir
+	Path directory;
+
+	private JdbcTemplate jdbcTemplate;
+	private final List<BidJournal> opened = new ArrayList<>();
+
+	@BeforeEach
+	void createCheckpointTable() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:journal-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("CREATE TABLE bid_journal_checkpoints (journal_id VARCHAR(255) PRIMARY KEY, last_sequence BIGINT NOT NULL)");
+	}
+
+	@AfterEach
+	void closeJournals() throws IOException {
+		for (BidJournal journal : opened) {
+			journal.close();
+		}
+	}
+
+	@Test
+	void recoversEntriesThatWereNotPersistedBeforeACrash() throws IOException {
+		LocalDateTime bidDateTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		BidJournal crashed = open(1 << 20);
+		crashed.append(101, 7, 3, 10f, bidDateTime);
+		crashed.append(102, 7, 4, 11f, bidDateTime);
+		crashed.append(103, 8, 3, 20f, bidDateTime);
+
+		BidJournal recovered = open(1 << 20);
+
+		List<BidJournalEntry> pending = recovered.peekPending(10);
+		assertThat(pending).extracting(BidJournalEntry::getSequence).containsExactly(1L, 2L, 3L);
+		assertThat(pending).extracting(BidJournalEntry::getBidId).containsExactly(101L, 102L, 103L);
+		assertThat(pending.get(1).getAuctionId()).isEqualTo(7);
+		assertThat(pending.get(1).getBidderId()).isEqualTo(4);
+		assertThat(pending.get(1).getAmount()).isEqualTo(11f);
+		assertThat(pending.get(1).getBidDateTime()).isEqualTo(bidDateTime);
+		assertThat(recovered.append(104, 8, 4, 21f, bidDateTime).getSequence()).isEqualTo(4);
+	}
+
+	@Test
+	void skipsEntriesCoveredByTheCheckpoint() throws IOException {
+		BidJournal journal = open(1 << 20);
+		journal.append(101, 7, 3, 10f, LocalDateTime.now());
+		journal.append(102, 7, 4, 11f, LocalDateTime.now());
+		journal.append(103, 7, 3, 12f, LocalDateTime.now());
+		journal.persist(journal.peekPending(2), () -> checkpoint(journal, 2));
+
+		BidJournal recovered = open(1 << 20);
+
+		assertThat(recovered.getPersistedSequence()).isEqualTo(2);
+		assertThat(recovered.peekPending(10)).extracting(BidJournalEntry::getBidId).containsExactly(103L);
+	}
+
+	@Test
+	void failedWriteKeepsTheBatchPending() throws IOException {
+		BidJournal journal = open(1 << 20);
+		journal.append(101, 7, 3, 10f, LocalDateTime.now());
+
+		try {
+			journal.persist(journal.peekPending(10), () -> {
+				throw new IllegalStateException("database unavailable");
+			});
+		} catch (IllegalStateException expected) {
+			// the writer retries on its next run
+		}
+
+		assertThat(journal.getPendingCount()).isEqualTo(1);
+		assertThat(journal.getPersistedSequence()).isZero();
+	}
+
+	@Test
+	void discardsATornTailAndKeepsAppending() throws IOException {
+		BidJournal journal = open(1 << 20);
+		journal.append(101, 7, 3, 10f, LocalDateTime.now());
+		journal.append(102, 7, 4, 11f, LocalDateTime.now());
+		journal.close();
+		corrupt(onlySegment(), ENTRY_SIZE + 20);
+
+		BidJournal recovered = open(1 << 20);
+
+		assertThat(recovered.peekPending(10)).extracting(BidJournalEntry::getBidId).containsExactly(101L);
+		assertThat(recovered.append(105, 7, 4, 12f, LocalDateTime.now()).getSequence()).isEqualTo(2);
+
+		BidJournal again = open(1 << 20);
+		assertThat(again.peekPending(10)).extracting(BidJournalEntry::getBidId).containsExactly(101L, 105L);
+	}
+
+	@Test
+	void recoversAcrossRotatedSegmentsAndDeletesPersistedOnes() throws IOException {
+		BidJournal journal = open(ENTRY_SIZE * 2);
+		for (int i = 1; i <= 5; i++) {
+			journal.append(100 + i, 7, 3, i, LocalDateTime.now());
+		}
+
+		BidJournal recovered = open(ENTRY_SIZE * 2);
+		assertThat(recovered.peekPending(10)).extracting(BidJournalEntry::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+		recovered.persist(recovered.peekPending(4), () -> checkpoint(recovered, 4));
+		assertThat(segmentCount()).isLessThan(4);
+
+		BidJournal afterCheckpoint = open(ENTRY_SIZE * 2);
+		assertThat(afterCheckpoint.peekPending(10)).extracting(BidJournalEntry::getSequence).containsExactly(5L);
+	}
+
+	private BidJournal open(int segmentSize) throws IOException {
+		BidJournal journal = new BidJournal(true, "node-a", directory.toString(), segmentSize, jdbcTemplate);
+		journal.recover();
+		opened.add(journal);
+		return journal;
+	}
+
+	private void checkpoint(BidJournal journal, long sequence) {
+		jdbcTemplate.update("MERGE INTO bid_journal_checkpoints (journal_id, last_sequence) KEY (journal_id) VALUES (?, ?)",
+				journal.getJournalId(), sequence);
+	}
+
+	private Path onlySegment() throws IOException {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "segment-*.log")) {
+			return stream.iterator().next();
+		}
+	}
+
+	private long segmentCount() throws IOException {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "segment-*.log")) {
+			long count = 0;
+			for (Path ignored : stream) {
+				count++;
+			}
+			return count;
+		}
+	}
+
+	private static void corrupt(Path segment, int offset) throws IOException {
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF, (byte) 0xFF}), offset);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.github.felxx.backend.scheduling;
+
+import com.github.felxx.backend.BackendApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardLeaseManagerTests {
+
+	private static final long LEASE_TTL_MS = 60000;
+
+	private final String databaseUrl = "jdbc:h2:mem:lease-test-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+	private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+	@AfterEach
+	void closeContexts() {
+		contexts.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void shardsAreHandedOverAndAStaleOwnerIsFenced() {
+		ConfigurableApplicationContext first = start("node-a", LEASE_TTL_MS, 3600000);
+		ShardLeaseManager nodeA = first.getBean(ShardLeaseManager.class);
+		nodeA.heartbeat();
+		assertThat(nodeA.ownedShards()).containsExactly(0, 1, 2, 3);
+
+		ConfigurableApplicationContext second = start("node-b", LEASE_TTL_MS, 3600000);
+		ShardLeaseManager nodeB = second.getBean(ShardLeaseManager.class);
+		nodeB.heartbeat();
+		nodeA.heartbeat();
+		nodeB.heartbeat();
+
+		assertThat(nodeA.ownedShards()).containsExactly(0, 1);
+		assertThat(nodeB.ownedShards()).containsExactly(2, 3);
+		assertThat(fence(first, nodeA, 0)).isTrue();
+		assertThat(fence(second, nodeB, 0)).isFalse();
+
+		// node-a stalls past its lease, node-b takes its shards over with new fencing tokens
+		JdbcTemplate jdbc = second.getBean(JdbcTemplate.class);
+		LocalDateTime stalledAt = LocalDateTime.now().minus(Duration.ofMillis(LEASE_TTL_MS * 2));
+		jdbc.update("UPDATE scheduler_nodes SET heartbeat_at = ? WHERE node_id = ?", stalledAt, "node-a");
+		jdbc.update("UPDATE scheduler_leases SET expires_at = ? WHERE owner_id = ?", stalledAt, "node-a");
+		nodeB.heartbeat();
+		assertThat(nodeB.ownedShards()).containsExactly(0, 1, 2, 3);
+
+		assertThat(nodeA.owns(0)).isTrue();
+		assertThat(fence(first, nodeA, 0)).isFalse();
+		assertThat(nodeA.owns(0)).isFalse();
+		assertThat(fence(second, nodeB, 0)).isTrue();
+	}
+
+	@Test
+	void leasesAreRenewedWhileAScheduledJobHoldsTheTaskScheduler() throws InterruptedException {
+		long leaseTtlMillis = 1500;
+		ConfigurableApplicationContext context = start("node-a", leaseTtlMillis, 200, "--spring.task.scheduling.pool.size=1");
+		ShardLeaseManager manager = context.getBean(ShardLeaseManager.class);
+		waitUntilOwned(manager, 4);
+
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		context.getBean("taskScheduler", ThreadPoolTaskScheduler.class).execute(() -> {
+			blocked.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		try {
+			assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+			JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+			LocalDateTime expiresAt = expiresAt(jdbc, 0);
+
+			Thread.sleep(leaseTtlMillis * 3);
+
+			assertThat(expiresAt(jdbc, 0)).isAfter(expiresAt);
+			assertThat(manager.ownedShards()).containsExactly(0, 1, 2, 3);
+			assertThat(fence(context, manager, 0)).isTrue();
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private ConfigurableApplicationContext start(String nodeId, long leaseTtlMillis, long heartbeatIntervalMillis,
+			String... extraArgs) {
+		List<String> args = new ArrayList<>(List.of(
+				"--spring.datasource.url=" + databaseUrl,
+				"--spring.jpa.hibernate.ddl-auto=update",
+				"--server.port=0",
+				"--app.auction.lifecycle.node-id=" + nodeId,
+				"--app.auction.lifecycle.shards=4",
+				"--app.auction.lifecycle.lease-ttl-ms=" + leaseTtlMillis,
+				"--app.auction.lifecycle.heartbeat-interval-ms=" + heartbeatIntervalMillis));
+		args.addAll(List.of(extraArgs));
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+				.run(args.toArray(String[]::new));
+		contexts.add(context);
+		return context;
+	}
+
+	private static void waitUntilOwned(ShardLeaseManager manager, int shards) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (manager.ownedShards().size() < shards && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(manager.ownedShards()).hasSize(shards);
+	}
+
+	private static LocalDateTime expiresAt(JdbcTemplate jdbc, int shardId) {
+		return jdbc.queryForObject("SELECT expires_at FROM scheduler_leases WHERE shard_id = ?", LocalDateTime.class, shardId);
+	}
+
+	private static boolean fence(ConfigurableApplicationContext context, ShardLeaseManager manager, int shardId) {
+		Set<Integer> before = manager.ownedShards();
+		Boolean valid = context.getBean(TransactionTemplate.class).execute(status -> manager.fence(shardId));
+		return before.contains(shardId) && Boolean.TRUE.equals(valid);
+	}
+}
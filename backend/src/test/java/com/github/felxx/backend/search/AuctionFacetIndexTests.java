@@ -0,0 +1,156 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionFacetsDTO;
+import com.github.felxx.backend.dto.auction.FacetCountDTO;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionFacetIndexTests {
+
+	private static final long LARGE_ID = Integer.MAX_VALUE + 10L;
+
+	@TempDir
+	Path indexPath;
+
+	private AuctionSearchIndex searchIndex;
+	private AuctionRepository auctionRepository;
+	private AuctionFacetIndex facetIndex;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		searchIndex = new AuctionSearchIndex(true, indexPath.toString(), 1000);
+		searchIndex.open();
+		auctionRepository = mock(AuctionRepository.class);
+		AuctionSearchIndexer searchIndexer = mock(AuctionSearchIndexer.class);
+		when(searchIndexer.isReady()).thenReturn(true);
+		facetIndex = new AuctionFacetIndex(auctionRepository, mock(CategoryRepository.class), searchIndex, searchIndexer,
+				100, 60000);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		searchIndex.close();
+	}
+
+	@Test
+	void countsAuctionsWithIdsBeyondTheIntRange() {
+		when(auctionRepository.findFacetRows()).thenReturn(rows(
+				new Object[] { 1L, AuctionStatus.OPEN, 10L },
+				new Object[] { LARGE_ID, AuctionStatus.OPEN, 10L },
+				new Object[] { LARGE_ID + 1, AuctionStatus.CLOSED, 20L }));
+		facetIndex.warmUp();
+
+		AuctionFacetsDTO facets = facetIndex.facets(null, null, null);
+
+		assertThat(counts(facets.getStatuses())).containsEntry("OPEN", 2L).containsEntry("CLOSED", 1L);
+		assertThat(counts(facets.getCategories())).containsEntry("10", 2L).containsEntry("20", 1L);
+	}
+
+	@Test
+	void searchCountsOnlyMatchingAuctions() throws Exception {
+		when(auctionRepository.findFacetRows()).thenReturn(rows(
+				new Object[] { 1L, AuctionStatus.OPEN, 10L },
+				new Object[] { LARGE_ID, AuctionStatus.OPEN, 10L }));
+		facetIndex.warmUp();
+		searchIndex.index(1L, "Oak table", "", AuctionStatus.OPEN, 10L, null, null);
+		searchIndex.index(LARGE_ID, "Brass lamp", "", AuctionStatus.OPEN, 10L, null, null);
+		searchIndex.refresh();
+
+		AuctionFacetsDTO facets = facetIndex.facets(null, null, "lamp");
+
+		assertThat(counts(facets.getStatuses())).containsExactly(Map.entry("OPEN", 1L));
+	}
+
+	@Test
+	void reconcilePicksUpChangesMadeOnOtherNodes() {
+		when(auctionRepository.findFacetRows()).thenReturn(rows(
+				new Object[] { 1L, AuctionStatus.OPEN, 10L },
+				new Object[] { 2L, AuctionStatus.OPEN, 10L }));
+		facetIndex.warmUp();
+		LocalDateTime now = LocalDateTime.now();
+		when(auctionRepository.findFacetRowsUpdatedSince(any(), isNull(), isNull(), any())).thenReturn(rows(
+				new Object[] { 2L, AuctionStatus.CLOSED, 10L, now },
+				new Object[] { 3L, AuctionStatus.OPEN, 20L, now }));
+
+		facetIndex.reconcile();
+
+		AuctionFacetsDTO facets = facetIndex.facets(null, null, null);
+		assertThat(counts(facets.getStatuses())).containsEntry("OPEN", 2L).containsEntry("CLOSED", 1L);
+		assertThat(counts(facets.getCategories())).containsEntry("10", 2L).containsEntry("20", 1L);
+		// only the changed rows are read, the full table is not
+		verify(auctionRepository, never()).findFacetRowsUpdatedSince(any(), any(LocalDateTime.class), any(), any());
+	}
+
+	@Test
+	void facetsAreServedWhileAReloadReadsTheTable() throws Exception {
+		when(auctionRepository.findFacetRows()).thenReturn(rows(
+				new Object[] { 1L, AuctionStatus.OPEN, 10L },
+				new Object[] { 2L, AuctionStatus.OPEN, 10L }));
+		facetIndex.warmUp();
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(auctionRepository.findFacetRows()).thenAnswer(invocation -> {
+			reading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			// auction 2 was deleted on another node
+			return rows(new Object[] { 1L, AuctionStatus.OPEN, 10L });
+		});
+
+		CompletableFuture<Void> reload = CompletableFuture.runAsync(facetIndex::scheduledReload);
+		assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+		AuctionFacetsDTO during = CompletableFuture.supplyAsync(() -> facetIndex.facets(null, null, null))
+				.get(1, TimeUnit.SECONDS);
+		facetIndex.update(3L, AuctionStatus.OPEN, 20L);
+		release.countDown();
+		reload.get(5, TimeUnit.SECONDS);
+
+		assertThat(counts(during.getStatuses())).containsExactly(Map.entry("OPEN", 2L));
+		AuctionFacetsDTO after = facetIndex.facets(null, null, null);
+		// the delete is picked up and the update made during the reload is not lost
+		assertThat(counts(after.getCategories())).containsEntry("10", 1L).containsEntry("20", 1L);
+		assertThat(counts(after.getStatuses())).containsExactly(Map.entry("OPEN", 2L));
+	}
+
+	@Test
+	void updatesMoveAnAuctionBetweenCells() {
+		when(auctionRepository.findFacetRows()).thenReturn(rows(new Object[] { LARGE_ID, AuctionStatus.OPEN, 10L }));
+		facetIndex.warmUp();
+
+		facetIndex.update(LARGE_ID, AuctionStatus.CLOSED, 20L);
+
+		AuctionFacetsDTO facets = facetIndex.facets(null, null, null);
+		assertThat(counts(facets.getStatuses())).containsExactly(Map.entry("CLOSED", 1L));
+		assertThat(counts(facets.getCategories())).containsExactly(Map.entry("20", 1L));
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return new ArrayList<>(List.of(rows));
+	}
+
+	private static Map<String, Long> counts(List<FacetCountDTO> facets) {
+		return facets.stream().collect(Collectors.toMap(FacetCountDTO::getKey, FacetCountDTO::getCount));
+	}
+}
@@ -0,0 +1,197 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionSummaryDTO;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.AuctionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionSearchIndexTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 9, 0);
+	private static final LocalDateTime END = LocalDateTime.of(2026, 3, 8, 21, 0);
+
+	@TempDir
+	Path indexPath;
+
+	private AuctionSearchIndex searchIndex;
+	private AuctionRepository auctionRepository;
+	private AuctionSearchIndexer indexer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		searchIndex = new AuctionSearchIndex(true, indexPath.toString(), 3);
+		searchIndex.open();
+		auctionRepository = mock(AuctionRepository.class);
+		indexer = new AuctionSearchIndexer(searchIndex, auctionRepository, 100, false, 60000);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		indexer.shutdown();
+		searchIndex.close();
+	}
+
+	@Test
+	void searchNeverTruncatesTheMatches() throws Exception {
+		for (long id = 1; id <= 4; id++) {
+			searchIndex.index(id, "Brass lamp " + id, "", AuctionStatus.OPEN, 1L, null, END.plusHours(id));
+		}
+		searchIndex.index(5L, "Oak table", "", AuctionStatus.OPEN, 1L, null, END);
+		searchIndex.refresh();
+
+		assertThat(searchIndex.search(query("lamp"))).isNull();
+		assertThat(searchIndex.search(query("table"))).containsExactly(5L);
+		assertThat(searchIndex.matchingIds("lamp")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	void broadSearchesArePagedAndCountedInTheIndex() throws Exception {
+		// more matches than max-hits, indexed out of end date order
+		for (long id = 1; id <= 7; id++) {
+			searchIndex.index(id, "Brass lamp", "", AuctionStatus.OPEN, 1L, START, END.minusHours(id));
+		}
+		searchIndex.refresh();
+
+		AuctionSearchPage second = searchIndex.page(query("lamp"),
+				PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "endDateTime")));
+		AuctionSearchPage byStart = searchIndex.page(query("lamp"),
+				PageRequest.of(0, 2, Sort.by("startDateTime", "id")));
+
+		assertThat(second.total()).isEqualTo(7);
+		assertThat(second.ids()).containsExactly(5L, 4L);
+		assertThat(byStart.ids()).containsExactly(1L, 2L);
+		assertThat(searchIndex.page(query("lamp"), PageRequest.of(0, 2, Sort.by("title")))).isNull();
+		assertThat(searchIndex.page(query("lamp"), PageRequest.of(9, 2)).ids()).isEmpty();
+	}
+
+	@Test
+	void pageAfterSeeksInEndDateAndIdOrder() throws Exception {
+		for (long id = 1; id <= 5; id++) {
+			searchIndex.index(id, "Brass lamp", "", AuctionStatus.OPEN, 1L, START, END.plusHours(id % 2));
+		}
+		searchIndex.refresh();
+
+		List<Long> first = searchIndex.pageAfter(query("lamp"), null, null, 3);
+		List<Long> rest = searchIndex.pageAfter(query("lamp"), END, 4L, 3);
+
+		assertThat(first).containsExactly(2L, 4L, 1L);
+		assertThat(rest).containsExactly(1L, 3L, 5L);
+		assertThat(searchIndex.count(query("lamp"))).isEqualTo(5);
+	}
+
+	@Test
+	void dateFiltersAreAppliedInTheIndex() throws Exception {
+		searchIndex.index(1L, "Brass lamp", "", AuctionStatus.OPEN, 1L, START, END);
+		searchIndex.index(2L, "Brass lamp", "", AuctionStatus.OPEN, 1L, START.minusDays(1), END.plusDays(1));
+		searchIndex.refresh();
+
+		AuctionSearchQuery query = new AuctionSearchQuery("lamp", null, null, START, END);
+
+		assertThat(searchIndex.count(query)).isEqualTo(1);
+		assertThat(searchIndex.page(query, PageRequest.of(0, 10)).ids()).containsExactly(1L);
+	}
+
+	@Test
+	void indexWithoutTheCurrentSchemaIsRebuiltOnStartup() throws Exception {
+		searchIndex.index(1L, "Brass lamp", "", AuctionStatus.OPEN, 1L, START, END);
+		searchIndex.commit();
+		assertThat(searchIndex.isCurrentSchema()).isFalse();
+		when(auctionRepository.findSummariesByFiltersAfter(isNull(), isNull(), isNull(), isNull(), isNull(),
+				any(), any(), any())).thenReturn(List.of());
+
+		indexer.warmUp();
+		waitUntilReady();
+
+		assertThat(searchIndex.isCurrentSchema()).isTrue();
+	}
+
+	@Test
+	void matchingIdsKeepsIdsBeyondTheIntRange() throws Exception {
+		long large = Integer.MAX_VALUE + 10L;
+		searchIndex.index(large, "Vintage camera", "", AuctionStatus.OPEN, 1L, START, END);
+		searchIndex.refresh();
+
+		assertThat(searchIndex.matchingIds("camera")).containsExactly(large);
+	}
+
+	@Test
+	void scheduledRebuildSkipsQuietlyWhileOneIsRunning() throws Exception {
+		CountDownLatch rebuildStarted = new CountDownLatch(1);
+		CountDownLatch releaseRebuild = new CountDownLatch(1);
+		when(auctionRepository.findSummariesByFiltersAfter(isNull(), isNull(), isNull(), isNull(), isNull(),
+				any(), any(), any())).thenAnswer(invocation -> {
+			rebuildStarted.countDown();
+			releaseRebuild.await(5, TimeUnit.SECONDS);
+			return List.of();
+		}).thenReturn(List.of());
+		indexer.warmUp();
+		assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatCode(indexer::scheduledRebuild).doesNotThrowAnyException();
+		releaseRebuild.countDown();
+		waitUntilReady();
+	}
+
+	@Test
+	void catchUpIndexesAuctionsChangedOnOtherNodes() throws Exception {
+		when(auctionRepository.findSummariesByFiltersAfter(isNull(), isNull(), isNull(), isNull(), isNull(),
+				any(), any(), any())).thenReturn(List.of());
+		indexer.warmUp();
+		waitUntilReady();
+
+		List<Object[]> changed = new ArrayList<>();
+		changed.add(new Object[] { 7L, LocalDateTime.now() });
+		when(auctionRepository.findUpdatedSince(any(), isNull(), isNull(), any())).thenReturn(changed);
+		when(auctionRepository.findSummariesByIdsAndFilters(anyCollection(), isNull(), isNull(), isNull(), isNull(), any()))
+				.thenReturn(new PageImpl<>(List.of(summary(7L, "Copper kettle", AuctionStatus.CLOSED))));
+
+		indexer.catchUp();
+		searchIndex.refresh();
+
+		assertThat(searchIndex.search(new AuctionSearchQuery("kettle", AuctionStatus.CLOSED, null, null, null)))
+				.containsExactly(7L);
+	}
+
+	private static AuctionSearchQuery query(String text) {
+		return new AuctionSearchQuery(text, null, null, null, null);
+	}
+
+	private void waitUntilReady() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!indexer.isReady() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(indexer.isReady()).isTrue();
+	}
+
+	private static AuctionSummaryDTO summary(Long id, String title, AuctionStatus status) {
+		AuctionSummaryDTO summary = new AuctionSummaryDTO();
+		summary.setId(id);
+		summary.setTitle(title);
+		summary.setDescription("");
+		summary.setStatus(status);
+		summary.setCategoryId(1L);
+		return summary;
+	}
+}
@@ -0,0 +1,142 @@
+package com.github.felxx.backend.search;
+
+import com.github.felxx.backend.dto.auction.AuctionSuggestionDTO;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionSuggestIndexTests {
+
+	private AuctionRepository auctionRepository;
+	private CategoryRepository categoryRepository;
+	private AuctionSuggestIndex suggestIndex;
+
+	@BeforeEach
+	void setUp() {
+		auctionRepository = mock(AuctionRepository.class);
+		categoryRepository = mock(CategoryRepository.class);
+		suggestIndex = new AuctionSuggestIndex(auctionRepository, categoryRepository, 20);
+	}
+
+	@Test
+	void resyncAppliesChangesMadeOnOtherNodes() {
+		when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Lamps")));
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenReturn(rows(
+				new Object[] { 1L, "Brass lamp", 0 },
+				new Object[] { 2L, "Paper lamp", 0 }));
+		suggestIndex.warmUp();
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenReturn(rows(
+				new Object[] { 1L, "Brass floor lamp", 0 },
+				new Object[] { 3L, "Glass lamp", 0 }));
+		when(categoryRepository.findAll()).thenReturn(List.of());
+
+		suggestIndex.scheduledResync();
+
+		assertThat(texts(suggestIndex.suggest("lamp", 10))).containsExactlyInAnyOrder("Brass floor lamp", "Glass lamp");
+		assertThat(suggestIndex.suggest("floor", 10)).hasSize(1);
+	}
+
+	@Test
+	void reloadsWhenEventsAreLost() {
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenReturn(rows(new Object[] { 1L, "Oak table", 0 }));
+		suggestIndex.warmUp();
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenReturn(rows(new Object[] { 2L, "Oak chair", 0 }));
+
+		suggestIndex.onEventsLost(5);
+
+		assertThat(texts(suggestIndex.suggest("oak", 10))).containsExactly("Oak chair");
+	}
+
+	@Test
+	void resyncKeepsEntriesAddedAfterItsSnapshot() {
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenAnswer(invocation -> {
+			suggestIndex.putAuction(9L, "Copper kettle", 0);
+			return rows();
+		});
+
+		suggestIndex.scheduledResync();
+
+		assertThat(texts(suggestIndex.suggest("kettle", 10))).containsExactly("Copper kettle");
+	}
+
+	@Test
+	void rankingConsidersEveryMatchingAuction() {
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		List<Object[]> open = new ArrayList<>();
+		for (long id = 1; id <= 3000; id++) {
+			open.add(new Object[] { id, "Lamp a" + id, 0 });
+		}
+		// sorts after every other key starting with "lamp"
+		open.add(new Object[] { 5000L, "Lamp zz", 40 });
+		when(auctionRepository.findSuggestRowsByStatus(AuctionStatus.OPEN)).thenReturn(open);
+		suggestIndex.warmUp();
+
+		assertThat(texts(suggestIndex.suggest("lamp", 1))).containsExactly("Lamp zz");
+	}
+
+	@Test
+	void bidsPromoteAuctionsIntoTheTopList() {
+		AuctionSuggestIndex index = new AuctionSuggestIndex(auctionRepository, categoryRepository, 2);
+		index.putAuction(1L, "Brass lamp", 5);
+		index.putAuction(2L, "Paper lamp", 3);
+		index.putAuction(3L, "Glass lamp", 0);
+		assertThat(texts(index.suggest("lamp", 2))).containsExactly("Brass lamp", "Paper lamp");
+
+		index.onEvent(bid(3L, 10));
+
+		assertThat(texts(index.suggest("lamp", 2))).containsExactly("Glass lamp", "Brass lamp");
+		assertThat(texts(index.suggest("glass", 2))).containsExactly("Glass lamp");
+	}
+
+	@Test
+	void closingAListedAuctionLetsTheNextOneIn() {
+		AuctionSuggestIndex index = new AuctionSuggestIndex(auctionRepository, categoryRepository, 2);
+		index.putAuction(1L, "Brass lamp", 5);
+		index.putAuction(2L, "Paper lamp", 3);
+		index.putAuction(3L, "Glass lamp", 1);
+		assertThat(texts(index.suggest("lamp", 2))).containsExactly("Brass lamp", "Paper lamp");
+
+		index.onEvent(new AuctionEvent(1L, AuctionEventType.STATUS,
+				new AuctionStatusUpdateDTO(1L, AuctionStatus.CLOSED, LocalDateTime.now(), null), System.nanoTime()));
+		index.putAuction(2L, "Paper lamp", 0);
+
+		assertThat(texts(index.suggest("lamp", 2))).containsExactly("Glass lamp", "Paper lamp");
+	}
+
+	private static AuctionEvent bid(Long auctionId, int totalBids) {
+		BidNotificationDTO bid = new BidNotificationDTO(auctionId, 1L, 10f, "Ana", LocalDateTime.now(), 10f, totalBids, 1L);
+		return new AuctionEvent(auctionId, AuctionEventType.BID, bid, System.nanoTime());
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return new ArrayList<>(List.of(rows));
+	}
+
+	private static List<String> texts(List<AuctionSuggestionDTO> suggestions) {
+		return suggestions.stream().map(AuctionSuggestionDTO::getText).toList();
+	}
+
+	private static Category category(Long id, String name) {
+		Category category = new Category();
+		category.setId(id);
+		category.setName(name);
+		return category;
+	}
+}
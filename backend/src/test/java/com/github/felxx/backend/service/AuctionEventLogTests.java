@@ -0,0 +1,51 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.event.AuctionEventBus;
+import com.github.felxx.backend.model.AuctionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AuctionEventLogTests {
+
+	private AuctionEventLog eventLog;
+
+	@BeforeEach
+	void setUp() {
+		eventLog = new AuctionEventLog(mock(AuctionEventBus.class), 16, 600000);
+	}
+
+	@Test
+	void currentSequenceOfAnUnknownAuctionDoesNotAllocateARing() {
+		assertThat(eventLog.currentSequence(404L)).isZero();
+		assertThat(eventLog.since(404L, 0L)).isEmpty();
+	}
+
+	@Test
+	void snapshotFromBeforeTheFirstEventResumesWithAFreshSnapshot() {
+		long snapshotSequence = eventLog.currentSequence(1L);
+		eventLog.publish(1L, AuctionEventType.STATUS, update(1L));
+
+		assertThat(eventLog.currentSequence(1L)).isGreaterThan(snapshotSequence);
+		assertThat(eventLog.since(1L, snapshotSequence)).isEmpty();
+	}
+
+	@Test
+	void resumesFromAKnownSequence() {
+		eventLog.publish(1L, AuctionEventType.STATUS, update(1L));
+		long sequence = eventLog.currentSequence(1L);
+		eventLog.publish(1L, AuctionEventType.STATUS, update(1L));
+
+		assertThat(eventLog.since(1L, sequence)).hasValueSatisfying(events -> assertThat(events).hasSize(1));
+	}
+
+	private static AuctionStatusUpdateDTO update(Long auctionId) {
+		return new AuctionStatusUpdateDTO(auctionId, AuctionStatus.OPEN, LocalDateTime.now(), null);
+	}
+}
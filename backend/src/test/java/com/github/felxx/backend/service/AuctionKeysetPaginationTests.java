@@ -0,0 +1,96 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.auction.AuctionCursorPageDTO;
+import com.github.felxx.backend.dto.auction.AuctionResponseDTO;
+import com.github.felxx.backend.dto.auction.PublicAuctionResponseDTO;
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.support.AuctionFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AuctionKeysetPaginationTests {
+
+	private static final int PAGE_SIZE = 2;
+
+	@Autowired
+	private AuctionService auctionService;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	private Category category;
+	private List<Auction> auctions;
+
+	@BeforeEach
+	void setUp() {
+		Person seller = fixtures.person("Keyset Seller");
+		category = fixtures.category("Keyset " + System.nanoTime());
+		LocalDateTime start = LocalDateTime.now().minusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime end = start.plusDays(1);
+		auctions = new ArrayList<>();
+		// Several auctions share an end so the id has to break the tie between pages
+		for (int i = 0; i < 7; i++) {
+			auctions.add(fixtures.auction(seller, category, "Keyset auction " + i, 10,
+					AuctionStatus.OPEN, start, end.plusHours(i % 3)));
+		}
+		auctions.sort(Comparator.comparing(Auction::getEndDateTime).thenComparing(Auction::getId));
+	}
+
+	@Test
+	void walksEveryPageInEndDateAndIdOrder() {
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			AuctionCursorPageDTO<PublicAuctionResponseDTO> page = auctionService.findPublicAuctionsKeyset(
+					null, category.getId(), null, cursor, PAGE_SIZE, false);
+			assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			assertThat(page.getTotalElements()).isNull();
+			assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+			page.getContent().forEach(auction -> seen.add(auction.getId()));
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(4);
+		assertThat(seen).containsExactlyElementsOf(auctions.stream().map(Auction::getId).toList());
+	}
+
+	@Test
+	void countsOnlyWhenAskedTo() {
+		AuctionCursorPageDTO<AuctionResponseDTO> first = auctionService.findByFiltersKeyset(
+				null, category.getId(), null, null, null, null, PAGE_SIZE, true);
+		AuctionCursorPageDTO<AuctionResponseDTO> second = auctionService.findByFiltersKeyset(
+				null, category.getId(), null, null, null, first.getNextCursor(), PAGE_SIZE, false);
+
+		assertThat(first.getTotalElements()).isEqualTo(auctions.size());
+		assertThat(second.getTotalElements()).isNull();
+		assertThat(second.getContent()).extracting(AuctionResponseDTO::getId)
+				.containsExactly(auctions.get(2).getId(), auctions.get(3).getId());
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		assertThatThrownBy(() -> auctionService.findPublicAuctionsKeyset(
+				null, category.getId(), null, "not-a-cursor", PAGE_SIZE, false))
+				.isInstanceOf(BusinessException.class)
+				.hasMessage("Invalid cursor");
+	}
+
+}
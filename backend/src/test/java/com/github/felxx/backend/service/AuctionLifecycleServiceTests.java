@@ -0,0 +1,246 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionExtendedDTO;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.scheduling.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionLifecycleServiceTests {
+
+	private AuctionRepository auctionRepository;
+	private BidAdmissionLocks admissionLocks;
+	private AuctionEventLog eventLog;
+	private TransactionTemplate transactionTemplate;
+	private ShardLeaseManager leaseManager;
+	private AuctionLifecycleService lifecycle;
+
+	@BeforeEach
+	void setUp() {
+		auctionRepository = mock(AuctionRepository.class);
+		admissionLocks = spy(new BidAdmissionLocks(256, 1000));
+		eventLog = mock(AuctionEventLog.class);
+
+		transactionTemplate = mock(TransactionTemplate.class);
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+		leaseManager = mock(ShardLeaseManager.class);
+		when(leaseManager.owns(anyLong())).thenReturn(true);
+		when(leaseManager.shardOf(anyLong())).thenReturn(0);
+		when(leaseManager.fence(0)).thenReturn(true);
+
+		lifecycle = start(0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		lifecycle.stop();
+	}
+
+	@Test
+	void transitionsRunOffTheWheelThread() throws InterruptedException {
+		CountDownLatch closed = new CountDownLatch(1);
+		AtomicReference<String> closingThread = new AtomicReference<>();
+		endedAuctionsAreFound();
+		when(auctionRepository.closeEndedInRange(anyLong(), anyLong(), anyCollection(),
+				eq(AuctionStatus.OPEN), eq(AuctionStatus.CLOSED), any())).thenAnswer(invocation -> {
+			closingThread.set(Thread.currentThread().getName());
+			closed.countDown();
+			return invocation.<Collection<Long>>getArgument(2).size();
+		});
+
+		lifecycle.track(openAuction(1L));
+
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(closingThread.get()).isEqualTo("auction-lifecycle-transitions");
+	}
+
+	@Test
+	void closingLocksOnlyAFewAuctionsAtATime() throws InterruptedException {
+		int auctions = 100;
+		CountDownLatch closed = new CountDownLatch(auctions);
+		List<Integer> lockedBatchSizes = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> {
+			lockedBatchSizes.add(invocation.<Collection<Long>>getArgument(0).size());
+			return invocation.callRealMethod();
+		}).when(admissionLocks).withLocks(anyCollection(), any());
+		endedAuctionsAreFound();
+		when(auctionRepository.closeEndedInRange(anyLong(), anyLong(), anyCollection(),
+				eq(AuctionStatus.OPEN), eq(AuctionStatus.CLOSED), any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(2);
+			ids.forEach(id -> closed.countDown());
+			return ids.size();
+		});
+
+		for (long id = 1; id <= auctions; id++) {
+			lifecycle.track(openAuction(id));
+		}
+
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(lockedBatchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(8));
+		assertThat(lockedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(auctions);
+	}
+
+	@Test
+	void failedTransitionsBackOffUpToTheCap() throws InterruptedException {
+		List<Long> attempts = new CopyOnWriteArrayList<>();
+		when(auctionRepository.findDeadlinesInRange(anyLong(), anyLong(), anyCollection(), eq(AuctionStatus.OPEN)))
+				.thenAnswer(invocation -> {
+					attempts.add(System.currentTimeMillis());
+					throw new IllegalStateException("database unavailable");
+				});
+
+		lifecycle.track(openAuction(1L));
+		Thread.sleep(1500);
+
+		List<Long> gaps = new ArrayList<>();
+		for (int i = 1; i < attempts.size(); i++) {
+			gaps.add(attempts.get(i) - attempts.get(i - 1));
+		}
+		// 50, 100, 200, 200, ... instead of a retry every 50 ms
+		assertThat(attempts.size()).isBetween(4, 11);
+		assertThat(gaps.get(0)).isLessThan(gaps.get(2));
+		assertThat(gaps.subList(2, gaps.size())).allSatisfy(gap -> assertThat(gap).isBetween(150L, 400L));
+	}
+
+	@Test
+	void publishesOpenBeforeClosedForAnAuctionThatEndsRightAway() throws InterruptedException {
+		int auctions = 50;
+		CountDownLatch closed = new CountDownLatch(auctions);
+		LocalDateTime ended = LocalDateTime.now().minusMinutes(1);
+		when(auctionRepository.findDeadlinesInRange(anyLong(), anyLong(), anyCollection(), eq(AuctionStatus.SCHEDULED)))
+				.thenAnswer(invocation -> {
+					List<Object[]> rows = new ArrayList<>();
+					for (Long id : invocation.<Collection<Long>>getArgument(2)) {
+						rows.add(new Object[] { id, ended.minusDays(1), ended });
+					}
+					return rows;
+				});
+		when(auctionRepository.openStartedInRange(anyLong(), anyLong(), anyCollection(),
+				eq(AuctionStatus.SCHEDULED), eq(AuctionStatus.OPEN), any()))
+				.thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(2).size());
+		endedAuctionsAreFound();
+		when(auctionRepository.closeEndedInRange(anyLong(), anyLong(), anyCollection(),
+				eq(AuctionStatus.OPEN), eq(AuctionStatus.CLOSED), any()))
+				.thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(2).size());
+		Map<Long, List<AuctionStatus>> published = new ConcurrentHashMap<>();
+		doAnswer(invocation -> {
+			AuctionStatusUpdateDTO update = invocation.getArgument(2);
+			published.computeIfAbsent(update.getAuctionId(), id -> new CopyOnWriteArrayList<>()).add(update.getStatus());
+			if (update.getStatus() == AuctionStatus.CLOSED) {
+				closed.countDown();
+			}
+			return null;
+		}).when(eventLog).publish(anyLong(), eq(AuctionEventType.STATUS), any());
+
+		for (long id = 1; id <= auctions; id++) {
+			Auction auction = openAuction(id);
+			auction.setStatus(AuctionStatus.SCHEDULED);
+			auction.setStartDateTime(ended.minusDays(1));
+			lifecycle.track(auction);
+		}
+
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(published).hasSize(auctions);
+		assertThat(published.values()).allSatisfy(statuses ->
+				assertThat(statuses).containsExactly(AuctionStatus.OPEN, AuctionStatus.CLOSED));
+	}
+
+	@Test
+	void bidInsideTheSoftCloseWindowExtendsTheAuction() throws InterruptedException {
+		lifecycle.stop();
+		lifecycle = start(60);
+		Auction auction = openAuction(1L);
+		LocalDateTime end = LocalDateTime.now().plus(Duration.ofMillis(300));
+		auction.setEndDateTime(end);
+		lifecycle.track(auction);
+
+		LocalDateTime bidAt = LocalDateTime.now();
+		lifecycle.onBid(auction, bidAt);
+		Thread.sleep(800);
+
+		assertThat(auction.getEndDateTime()).isEqualTo(bidAt.plusSeconds(120));
+		ArgumentCaptor<AuctionExtendedDTO> extended = ArgumentCaptor.forClass(AuctionExtendedDTO.class);
+		verify(eventLog).publishAfterCommit(eq(1L), eq(AuctionEventType.STATUS), extended.capture());
+		assertThat(extended.getValue().getPreviousEndDateTime()).isEqualTo(end);
+		assertThat(extended.getValue().getEndDateTime()).isEqualTo(bidAt.plusSeconds(120));
+		// the close scheduled for the original end was replaced
+		verify(auctionRepository, never()).findDeadlinesInRange(anyLong(), anyLong(), anyCollection(), any());
+	}
+
+	@Test
+	void bidBeforeTheSoftCloseWindowLeavesTheEndAlone() {
+		lifecycle.stop();
+		lifecycle = start(60);
+		Auction auction = openAuction(1L);
+		LocalDateTime end = LocalDateTime.now().plusHours(1);
+		auction.setEndDateTime(end);
+
+		lifecycle.onBid(auction, LocalDateTime.now());
+
+		assertThat(auction.getEndDateTime()).isEqualTo(end);
+		verify(eventLog, never()).publishAfterCommit(anyLong(), any(), any());
+	}
+
+	private AuctionLifecycleService start(long softCloseWindowSeconds) {
+		AuctionLifecycleService service = new AuctionLifecycleService(auctionRepository, mock(AuctionOrderBook.class),
+				admissionLocks, eventLog, transactionTemplate, new AuctionStatusPublisher(eventLog), leaseManager,
+				new SimpleMeterRegistry(), softCloseWindowSeconds, 120, 5, 512, 1000, 8, 50, 200, 30000);
+		service.start();
+		return service;
+	}
+
+	private void endedAuctionsAreFound() {
+		when(auctionRepository.findDeadlinesInRange(anyLong(), anyLong(), anyCollection(), eq(AuctionStatus.OPEN)))
+				.thenAnswer(invocation -> {
+					LocalDateTime ended = LocalDateTime.now().minusMinutes(1);
+					List<Object[]> rows = new ArrayList<>();
+					for (Long id : invocation.<Collection<Long>>getArgument(2)) {
+						rows.add(new Object[] { id, ended.minusDays(1), ended });
+					}
+					return rows;
+				});
+	}
+
+	private static Auction openAuction(Long id) {
+		Auction auction = new Auction();
+		auction.setId(id);
+		auction.setStatus(AuctionStatus.OPEN);
+		auction.setEndDateTime(LocalDateTime.now().minusSeconds(1));
+		return auction;
+	}
+}
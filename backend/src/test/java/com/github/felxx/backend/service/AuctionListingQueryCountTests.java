@@ -0,0 +1,122 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.auction.AuctionCursorPageDTO;
+import com.github.felxx.backend.dto.auction.AuctionResponseDTO;
+import com.github.felxx.backend.dto.auction.PublicAuctionResponseDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.model.Image;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.BidRepository;
+import com.github.felxx.backend.repository.ImageRepository;
+import com.github.felxx.backend.support.AuctionFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AuctionListingQueryCountTests {
+
+	private static final int PAGE_SIZE = 12;
+
+	@Autowired
+	private AuctionService auctionService;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private ImageRepository imageRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Category category;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		Person seller = fixtures.person("Seller");
+		Person bidder = fixtures.person("Bidder");
+		category = fixtures.category("Listing " + System.nanoTime());
+		for (int i = 0; i < PAGE_SIZE + 3; i++) {
+			Auction auction = fixtures.openAuction(seller, category, "Listed auction " + i, 10);
+			for (int image = 0; image < 2; image++) {
+				imageRepository.save(image(auction, image));
+			}
+			for (int bid = 1; bid <= 3; bid++) {
+				bidRepository.save(bid(auction, bidder, 10f + bid));
+			}
+		}
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void publicListingPageUsesAConstantNumberOfStatements() {
+		Page<PublicAuctionResponseDTO> page = auctionService.findPublicAuctions(
+				null, category.getId(), null, PageRequest.of(0, PAGE_SIZE));
+
+		assertThat(page.getContent()).hasSize(PAGE_SIZE);
+		assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE + 3);
+		// page, count and main image metadata
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+		assertThat(statistics.getCollectionFetchCount()).isZero();
+	}
+
+	@Test
+	void adminListingPageUsesAConstantNumberOfStatements() {
+		Page<AuctionResponseDTO> page = auctionService.findByFilters(
+				null, category.getId(), null, null, null, PageRequest.of(1, PAGE_SIZE));
+
+		assertThat(page.getContent()).hasSize(3);
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+		assertThat(statistics.getCollectionFetchCount()).isZero();
+	}
+
+	@Test
+	void keysetPageUsesAConstantNumberOfStatements() {
+		AuctionCursorPageDTO<PublicAuctionResponseDTO> page = auctionService.findPublicAuctionsKeyset(
+				null, category.getId(), null, null, PAGE_SIZE, false);
+
+		assertThat(page.getContent()).hasSize(PAGE_SIZE);
+		// page and main image metadata, no count
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+		assertThat(statistics.getCollectionFetchCount()).isZero();
+	}
+
+	private static Image image(Auction auction, int order) {
+		Image image = new Image();
+		image.setImageName("image-" + order + ".png");
+		image.setImageData(new byte[1024]);
+		image.setContentType("image/png");
+		image.setFileSize(1024L);
+		image.setDisplayOrder(order);
+		image.setUploadedAt(LocalDateTime.now().minusMinutes(1));
+		image.setAuction(auction);
+		return image;
+	}
+
+	private static Bid bid(Auction auction, Person bidder, float amount) {
+		Bid bid = new Bid();
+		bid.setAmount(amount);
+		bid.setBidDateTime(LocalDateTime.now().minusSeconds(1));
+		bid.setBidder(bidder);
+		bid.setAuction(auction);
+		return bid;
+	}
+}
@@ -0,0 +1,166 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.bid.BidRequestDTO;
+import com.github.felxx.backend.exception.BusinessException;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.BidRepository;
+import com.github.felxx.backend.support.AuctionFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AuctionOrderBookTests {
+
+	private static final int BIDDERS = 8;
+	private static final int BIDS_PER_BIDDER = 25;
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private AuctionOrderBook orderBook;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void clearAuthentication() {
+		AuctionFixtures.clearAuthentication();
+	}
+
+	@Test
+	void concurrentBidsLeaveTheBookAndTheAuctionRowConsistent() throws Exception {
+		Person seller = fixtures.person("Seller");
+		Category category = fixtures.category("Order book load");
+		Long auctionId = fixtures.openAuction(seller, category, "Concurrent bids", 1).getId();
+		List<Person> bidders = IntStream.range(0, BIDDERS).mapToObj(i -> fixtures.person("Bidder " + i)).toList();
+
+		AtomicInteger nextAmount = new AtomicInteger(1);
+		AtomicInteger accepted = new AtomicInteger();
+		AtomicInteger highest = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(BIDDERS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Person bidder : bidders) {
+				futures.add(executor.submit(() -> {
+					AuctionFixtures.authenticate(bidder);
+					for (int i = 0; i < BIDS_PER_BIDDER; i++) {
+						int amount = nextAmount.getAndIncrement();
+						try {
+							bidService.insert(new BidRequestDTO((float) amount, auctionId), null);
+							accepted.incrementAndGet();
+							highest.accumulateAndGet(amount, Math::max);
+						} catch (BusinessException e) {
+							// outbid by a concurrent bidder between taking the amount and admission
+						}
+					}
+					AuctionFixtures.clearAuthentication();
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Auction stored = auctionRepository.findById(auctionId).orElseThrow();
+		Bid leading = bidRepository.findById(stored.getLeadingBidId()).orElseThrow();
+		assertThat(accepted.get()).isPositive();
+		assertThat(stored.getBidCount()).isEqualTo(accepted.get());
+		assertThat(bidRepository.countByAuctionId(auctionId)).isEqualTo(accepted.get());
+		assertThat(stored.getCurrentPrice()).isEqualTo((float) highest.get());
+		assertThat(leading.getAmount()).isEqualTo((float) highest.get());
+		assertThat(stored.getLeadingBidderId()).isEqualTo(leading.getBidder().getId());
+
+		OrderBookEntry book = orderBook.get(auctionId);
+		assertThat(book.getHighestAmount()).isEqualTo((float) highest.get());
+		assertThat(book.getBidCount()).isEqualTo(accepted.get());
+		assertThat(book.getLeadingBidId()).isEqualTo(leading.getId());
+	}
+
+	@Test
+	void staleBookIsCaughtByTheDatabaseGuard() {
+		Person seller = fixtures.person("Seller");
+		Person localBidder = fixtures.person("Local bidder");
+		Person remoteBidder = fixtures.person("Remote bidder");
+		Auction auction = fixtures.openAuction(seller, fixtures.category("Stale book"), "Stale book", 1);
+		Long auctionId = auction.getId();
+
+		AuctionFixtures.authenticate(localBidder);
+		bidService.insert(new BidRequestDTO(10f, auctionId), null);
+		placeOnAnotherNode(auction, remoteBidder, 50f);
+		assertThat(orderBook.get(auctionId).getHighestAmount()).isEqualTo(10f);
+
+		assertThatThrownBy(() -> bidService.insert(new BidRequestDTO(20f, auctionId), null))
+				.isInstanceOf(BusinessException.class);
+		assertThat(orderBook.get(auctionId).getHighestAmount()).isEqualTo(50f);
+		assertThat(bidRepository.countByAuctionId(auctionId)).isEqualTo(2);
+
+		bidService.insert(new BidRequestDTO(60f, auctionId), null);
+		Auction stored = auctionRepository.findById(auctionId).orElseThrow();
+		assertThat(stored.getCurrentPrice()).isEqualTo(60f);
+		assertThat(stored.getBidCount()).isEqualTo(3);
+		assertThat(stored.getLeadingBidderId()).isEqualTo(localBidder.getId());
+	}
+
+	@Test
+	void databaseGuardRejectsBidsOnAuctionsClosedElsewhere() {
+		Person seller = fixtures.person("Seller");
+		Person bidder = fixtures.person("Bidder");
+		Auction auction = fixtures.openAuction(seller, fixtures.category("Closed elsewhere"), "Closed elsewhere", 1);
+
+		transactionTemplate.executeWithoutResult(status -> auctionRepository.closeEndedInRange(
+				auction.getId(), auction.getId(), List.of(auction.getId()),
+				AuctionStatus.OPEN, AuctionStatus.CLOSED, LocalDateTime.now().plusDays(1)));
+
+		AuctionFixtures.authenticate(bidder);
+		assertThatThrownBy(() -> bidService.insert(new BidRequestDTO(5f, auction.getId()), null))
+				.isInstanceOf(BusinessException.class);
+		assertThat(bidRepository.countByAuctionId(auction.getId())).isZero();
+	}
+
+	private void placeOnAnotherNode(Auction auction, Person bidder, float amount) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Bid bid = new Bid();
+			bid.setAuction(auction);
+			bid.setBidder(bidder);
+			bid.setAmount(amount);
+			bid.setBidDateTime(LocalDateTime.now());
+			Bid saved = bidRepository.save(bid);
+			assertThat(auctionRepository.raiseCurrentPrice(
+					auction.getId(), amount, saved.getId(), bidder.getId(), AuctionStatus.OPEN)).isEqualTo(1);
+		});
+	}
+
+}
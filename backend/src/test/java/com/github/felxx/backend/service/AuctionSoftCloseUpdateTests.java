@@ -0,0 +1,83 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.auction.AuctionRequestDTO;
+import com.github.felxx.backend.dto.bid.BidRequestDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.support.AuctionFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"app.auction.soft-close.window-seconds=60",
+		"app.auction.soft-close.extension-seconds=300"
+})
+class AuctionSoftCloseUpdateTests {
+
+	@Autowired
+	private AuctionService auctionService;
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private AuctionRepository auctionRepository;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	@AfterEach
+	void clearAuthentication() {
+		AuctionFixtures.clearAuthentication();
+	}
+
+	@Test
+	void editingAnExtendedAuctionKeepsTheExtendedEnd() throws InterruptedException {
+		Category category = fixtures.category("Soft close");
+		LocalDateTime start = LocalDateTime.now().minusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime originalEnd = LocalDateTime.now().plusSeconds(3).truncatedTo(ChronoUnit.MILLIS);
+		Auction auction = fixtures.auction(fixtures.person("Seller"), category, "Pocket watch", 1,
+				AuctionStatus.OPEN, start, originalEnd);
+		Person bidder = fixtures.person("Bidder");
+
+		AuctionFixtures.authenticate(bidder);
+		bidService.insert(new BidRequestDTO(10f, auction.getId()), null);
+		LocalDateTime extendedEnd = auctionRepository.findById(auction.getId()).orElseThrow().getEndDateTime();
+		assertThat(extendedEnd).isAfter(originalEnd.plusSeconds(60));
+
+		// the edit form still carries the end loaded before the bid
+		auctionService.update(auction.getId(), new AuctionRequestDTO("Gold pocket watch", "Restored",
+				start, originalEnd, 1f, category.getId()));
+		Thread.sleep(4000);
+
+		Auction stored = auctionRepository.findById(auction.getId()).orElseThrow();
+		assertThat(stored.getTitle()).isEqualTo("Gold pocket watch");
+		assertThat(stored.getEndDateTime()).isEqualTo(extendedEnd);
+		// the close was not re-armed for the original end
+		assertThat(stored.getStatus()).isEqualTo(AuctionStatus.OPEN);
+	}
+
+	@Test
+	void theEndOfAnOpenAuctionCanStillBeMovedLater() {
+		Category category = fixtures.category("Soft close");
+		LocalDateTime start = LocalDateTime.now().minusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime end = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+		Auction auction = fixtures.auction(fixtures.person("Seller"), category, "Desk clock", 1,
+				AuctionStatus.OPEN, start, end);
+
+		auctionService.update(auction.getId(), new AuctionRequestDTO("Desk clock", "Brass",
+				start, end.plusDays(1), 1f, category.getId()));
+
+		assertThat(auctionRepository.findById(auction.getId()).orElseThrow().getEndDateTime()).isEqualTo(end.plusDays(1));
+	}
+}
@@ -0,0 +1,120 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidAdmissionLocksTests {
+
+	private static final int AUCTIONS = 64;
+	private static final int THREADS = 16;
+	private static final int ITERATIONS = 2_000;
+
+	@Test
+	void serializesAdmissionsPerAuctionUnderContention() throws Exception {
+		BidAdmissionLocks locks = new BidAdmissionLocks(8, 10_000);
+		long[] counters = new long[AUCTIONS];
+
+		runConcurrently(() -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for (int i = 0; i < ITERATIONS; i++) {
+				long auctionId = random.nextInt(AUCTIONS);
+				locks.withLock(auctionId, () -> {
+					counters[(int) auctionId] = counters[(int) auctionId] + 1;
+					return null;
+				});
+			}
+		});
+
+		assertThat(Arrays.stream(counters).sum()).isEqualTo((long) THREADS * ITERATIONS);
+	}
+
+	@Test
+	void batchAndSingleLocksNeverDeadlock() throws Exception {
+		BidAdmissionLocks locks = new BidAdmissionLocks(8, 10_000);
+		long[] counters = new long[AUCTIONS];
+		AtomicLong expected = new AtomicLong();
+
+		runConcurrently(() -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for (int i = 0; i < ITERATIONS / 10; i++) {
+				if (random.nextBoolean()) {
+					List<Long> batch = new ArrayList<>();
+					for (int j = 0; j < 5; j++) {
+						batch.add((long) random.nextInt(AUCTIONS));
+					}
+					locks.withLocks(batch, () -> {
+						batch.stream().distinct().forEach(id -> counters[id.intValue()] = counters[id.intValue()] + 1);
+						return null;
+					});
+					expected.addAndGet(batch.stream().distinct().count());
+				} else {
+					long auctionId = random.nextInt(AUCTIONS);
+					locks.withLock(auctionId, () -> {
+						counters[(int) auctionId] = counters[(int) auctionId] + 1;
+						return null;
+					});
+					expected.incrementAndGet();
+				}
+			}
+		});
+
+		assertThat(Arrays.stream(counters).sum()).isEqualTo(expected.get());
+	}
+
+	@Test
+	void timesOutInsteadOfWaitingForever() throws Exception {
+		BidAdmissionLocks locks = new BidAdmissionLocks(8, 50);
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> locks.withLock(1L, () -> {
+				held.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return null;
+			}));
+			held.await();
+
+			assertThatThrownBy(() -> locks.withLock(1L, () -> null)).isInstanceOf(BusinessException.class);
+			assertThatThrownBy(() -> locks.withLocks(List.of(2L, 1L), () -> null)).isInstanceOf(BusinessException.class);
+			assertThat(locks.withLock(2L, () -> "free")).isEqualTo("free");
+		} finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+
+	private static void runConcurrently(Runnable task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(task));
+			}
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
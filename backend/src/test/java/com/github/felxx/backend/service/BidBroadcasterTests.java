@@ -0,0 +1,95 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BidBroadcasterTests {
+
+	private static final long WINDOW_MS = 1000;
+
+	private AuctionEventLog eventLog;
+	private SimpleMeterRegistry meterRegistry;
+	private BidBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		eventLog = mock(AuctionEventLog.class);
+		meterRegistry = new SimpleMeterRegistry();
+		broadcaster = new BidBroadcaster(eventLog, meterRegistry, WINDOW_MS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		broadcaster.shutdown();
+	}
+
+	@Test
+	void firstNotificationIsSentWithoutWaitingForTheWindow() {
+		long started = System.currentTimeMillis();
+
+		broadcaster.broadcast(bid(1));
+
+		verify(eventLog, timeout(WINDOW_MS / 2)).publish(eq(1L), eq(AuctionEventType.BID), any());
+		assertThat(System.currentTimeMillis() - started).isLessThan(WINDOW_MS);
+	}
+
+	@Test
+	void newestNotificationWinsWithinTheWindow() {
+		broadcaster.broadcast(bid(1));
+		verify(eventLog, timeout(WINDOW_MS / 2)).publish(eq(1L), eq(AuctionEventType.BID), any());
+
+		// arrives out of order: the notification with more bids is the newer one
+		broadcaster.broadcast(bid(2));
+		broadcaster.broadcast(bid(4));
+		broadcaster.broadcast(bid(3));
+
+		verify(eventLog, after(WINDOW_MS * 2).times(2)).publish(eq(1L), eq(AuctionEventType.BID), any());
+		ArgumentCaptor<BidNotificationDTO> sent = ArgumentCaptor.forClass(BidNotificationDTO.class);
+		verify(eventLog, times(2)).publish(eq(1L), eq(AuctionEventType.BID), sent.capture());
+		assertThat(sent.getAllValues()).extracting(BidNotificationDTO::getTotalBids).containsExactly(1, 4);
+		assertThat(meterRegistry.get("bids.broadcast.coalesced").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("bids.broadcast.sent").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void idleSlotsAreSweptOnceTheWindowHasPassed() throws InterruptedException {
+		broadcaster.broadcast(bid(1));
+		verify(eventLog, timeout(WINDOW_MS / 2)).publish(eq(1L), eq(AuctionEventType.BID), any());
+
+		broadcaster.removeIdleSlots();
+		assertThat(slots()).isEqualTo(1);
+
+		Thread.sleep(WINDOW_MS + 50);
+		broadcaster.removeIdleSlots();
+		assertThat(slots()).isZero();
+
+		// a later bid starts a new slot and is again sent right away
+		broadcaster.broadcast(bid(2));
+		verify(eventLog, timeout(WINDOW_MS / 2).times(2)).publish(eq(1L), eq(AuctionEventType.BID), any());
+	}
+
+	private double slots() {
+		return meterRegistry.get("bids.broadcast.slots").gauge().value();
+	}
+
+	private static BidNotificationDTO bid(int totalBids) {
+		return new BidNotificationDTO(1L, (long) totalBids, 10f + totalBids, "Ana", LocalDateTime.now(),
+				10f + totalBids, totalBids, (long) totalBids);
+	}
+}
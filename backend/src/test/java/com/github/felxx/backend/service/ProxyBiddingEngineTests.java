@@ -0,0 +1,169 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.Bid;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.model.ProxyBid;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.ProxyBidRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProxyBiddingEngineTests {
+
+	private ProxyBidRepository proxyBidRepository;
+	private AuctionRepository auctionRepository;
+	private BidRecorder bidRecorder;
+	private AuctionOrderBook orderBook;
+	private ProxyBiddingEngine engine;
+
+	private Auction auction;
+	private Person earlier;
+	private Person later;
+
+	@BeforeEach
+	void setUp() {
+		proxyBidRepository = mock(ProxyBidRepository.class);
+		auctionRepository = mock(AuctionRepository.class);
+		bidRecorder = mock(BidRecorder.class);
+		orderBook = mock(AuctionOrderBook.class);
+		engine = new ProxyBiddingEngine(proxyBidRepository, auctionRepository, bidRecorder, orderBook, 1.0f);
+
+		auction = new Auction();
+		auction.setId(1L);
+		auction.setMinimumBid(10f);
+		earlier = person(1L);
+		later = person(2L);
+
+		when(proxyBidRepository.findFirstByAuctionIdAndBidderIdAndActiveTrue(anyLong(), anyLong()))
+				.thenReturn(Optional.empty());
+		when(proxyBidRepository.save(any(ProxyBid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(bidRecorder.record(eq(auction), any(Person.class), anyFloat())).thenAnswer(invocation -> {
+			Bid bid = new Bid();
+			bid.setAuction(auction);
+			bid.setBidder(invocation.getArgument(1));
+			bid.setAmount(invocation.getArgument(2));
+			return bid;
+		});
+	}
+
+	@Test
+	void tieWhileTheEarlierProxyLeadsRaisesThePriceToTheTiedMaximum() {
+		ProxyBid first = engine.register(auction, earlier, 100f);
+		ProxyBid second = engine.register(auction, later, 100f);
+		givenBook(50f, earlier);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of(first, second));
+
+		List<Bid> placed = engine.resolve(auction);
+
+		assertThat(placed).singleElement().satisfies(bid -> {
+			assertThat(bid.getBidder()).isSameAs(earlier);
+			assertThat(bid.getAmount()).isEqualTo(100f);
+		});
+		assertThat(first.isActive()).isTrue();
+		assertThat(second.isActive()).isFalse();
+	}
+
+	@Test
+	void tieAgainstAnotherLeaderGoesToTheEarlierProxy() {
+		ProxyBid first = engine.register(auction, earlier, 100f);
+		ProxyBid second = engine.register(auction, later, 100f);
+		givenBook(60f, later);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of(first, second));
+
+		List<Bid> placed = engine.resolve(auction);
+
+		assertThat(placed).extracting(Bid::getAmount).containsExactly(100f);
+		assertThat(placed.get(0).getBidder()).isSameAs(earlier);
+		assertThat(second.isActive()).isFalse();
+	}
+
+	@Test
+	void tieAlreadyAtTheMaximumOnlyRetiresTheLoser() {
+		ProxyBid first = engine.register(auction, earlier, 100f);
+		ProxyBid second = engine.register(auction, later, 100f);
+		givenBook(100f, earlier);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of(first, second));
+
+		assertThat(engine.resolve(auction)).isEmpty();
+		verify(bidRecorder, never()).record(any(), any(), anyFloat());
+		assertThat(first.isActive()).isTrue();
+		assertThat(second.isActive()).isFalse();
+	}
+
+	@Test
+	void higherProxyOutbidsTheRunnerUpByOneIncrement() {
+		ProxyBid first = engine.register(auction, earlier, 100f);
+		ProxyBid second = engine.register(auction, later, 80f);
+		givenBook(50f, later);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of(first, second));
+
+		List<Bid> placed = engine.resolve(auction);
+
+		assertThat(placed).extracting(Bid::getAmount).containsExactly(80f, 81f);
+		assertThat(placed.get(1).getBidder()).isSameAs(earlier);
+		assertThat(second.isActive()).isFalse();
+	}
+
+	@Test
+	void proxyRegisteredOnAnotherNodeDefendsItsMaximum() {
+		ProxyBid remote = proxy(earlier, 100f);
+		auction.setProxiesActive(true);
+		givenBook(50f, later);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of(remote));
+
+		List<Bid> placed = engine.resolve(auction);
+
+		assertThat(placed).extracting(Bid::getAmount).containsExactly(51f);
+		assertThat(placed.get(0).getBidder()).isSameAs(earlier);
+	}
+
+	@Test
+	void auctionsWithoutProxiesSkipTheLookup() {
+		assertThat(engine.resolve(auction)).isEmpty();
+		verify(proxyBidRepository, never()).findActiveByAuctionId(anyLong());
+	}
+
+	@Test
+	void flagIsClearedOnceNoProxyIsLeft() {
+		auction.setProxiesActive(true);
+		when(proxyBidRepository.findActiveByAuctionId(1L)).thenReturn(List.of());
+
+		assertThat(engine.resolve(auction)).isEmpty();
+		verify(auctionRepository).clearProxiesActive(1L);
+	}
+
+	private ProxyBid proxy(Person bidder, float maxAmount) {
+		ProxyBid proxy = new ProxyBid();
+		proxy.setAuction(auction);
+		proxy.setBidder(bidder);
+		proxy.setMaxAmount(maxAmount);
+		proxy.setActive(true);
+		return proxy;
+	}
+
+	private void givenBook(float highest, Person leader) {
+		when(orderBook.get(1L)).thenReturn(new OrderBookEntry(highest, 1, 99L, leader.getId()));
+	}
+
+	private static Person person(Long id) {
+		Person person = new Person();
+		person.setId(id);
+		person.setName("Bidder " + id);
+		return person;
+	}
+
+}
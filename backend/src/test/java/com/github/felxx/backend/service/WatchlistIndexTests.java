@@ -0,0 +1,61 @@
+package com.github.felxx.backend.service;
+
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.WatchlistRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WatchlistIndexTests {
+
+	private final WatchlistRepository watchlistRepository = mock(WatchlistRepository.class);
+	private final WatchlistIndex index = new WatchlistIndex(watchlistRepository);
+
+	@Test
+	void insertsAndRemovesWithoutChangingArraysAlreadyHandedOut() {
+		index.add(1L, 20L, "b@test.local");
+		index.add(1L, 10L, "a@test.local");
+		long[] before = index.watchers(1L);
+
+		index.add(1L, 15L, "c@test.local");
+		index.add(1L, 15L, "c@test.local");
+		long[] afterInsert = index.watchers(1L);
+		index.remove(1L, 10L);
+
+		assertThat(before).containsExactly(10L, 20L);
+		assertThat(afterInsert).containsExactly(10L, 15L, 20L);
+		assertThat(index.watchers(1L)).containsExactly(15L, 20L);
+		assertThat(index.emailOf(15L)).isEqualTo("c@test.local");
+	}
+
+	@Test
+	void removingTheLastWatcherDropsTheAuction() {
+		index.add(1L, 10L, "a@test.local");
+		long[] before = index.watchers(1L);
+
+		index.remove(1L, 10L);
+		index.remove(1L, 99L);
+
+		assertThat(before).containsExactly(10L);
+		assertThat(index.watchers(1L)).isEmpty();
+	}
+
+	@Test
+	void warmUpMergesWithWatchersAddedMeanwhile() {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] { 1L, 30L, "c@test.local" });
+		rows.add(new Object[] { 1L, 10L, "a@test.local" });
+		when(watchlistRepository.findWatchersByAuctionStatusNot(AuctionStatus.CLOSED)).thenReturn(rows);
+		index.add(1L, 20L, "b@test.local");
+		index.add(1L, 10L, "a@test.local");
+
+		index.warmUp();
+
+		assertThat(index.watchers(1L)).containsExactly(10L, 20L, 30L);
+	}
+}
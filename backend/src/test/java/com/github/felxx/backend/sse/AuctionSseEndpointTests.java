@@ -0,0 +1,98 @@
+package com.github.felxx.backend.sse;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.service.AuctionEventLog;
+import com.github.felxx.backend.support.AuctionFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuctionSseEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuctionFixtures fixtures;
+
+	@Autowired
+	private AuctionEventLog eventLog;
+
+	private Auction auction;
+
+	@BeforeEach
+	void setUp() {
+		Person publisher = fixtures.person("Sse Publisher");
+		auction = fixtures.openAuction(publisher, fixtures.category("Sse"), "Watched lamp", 10f);
+	}
+
+	@Test
+	void streamsTheSnapshotAndThenLiveEvents() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get("/public/auctions/{id}/events", auction.getId())
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn().getResponse();
+
+		assertThat(response.getContentAsString()).contains("event:snapshot");
+
+		eventLog.publish(auction.getId(), AuctionEventType.STATUS,
+				new AuctionStatusUpdateDTO(auction.getId(), AuctionStatus.CLOSED, LocalDateTime.now(), null));
+
+		waitUntilContains(response, "\"status\":\"CLOSED\"");
+		assertThat(response.getContentAsString()).contains("event:status");
+	}
+
+	@Test
+	void resumesFromLastEventIdWithoutASnapshot() throws Exception {
+		AuctionStatusUpdateDTO missed = new AuctionStatusUpdateDTO(auction.getId(), AuctionStatus.CLOSED, LocalDateTime.now(), null);
+		eventLog.publish(auction.getId(), AuctionEventType.STATUS,
+				new AuctionStatusUpdateDTO(auction.getId(), AuctionStatus.OPEN, LocalDateTime.now(), null));
+		eventLog.publish(auction.getId(), AuctionEventType.STATUS, missed);
+
+		String content = mockMvc.perform(get("/public/auctions/{id}/events", auction.getId())
+						.header("Last-Event-ID", missed.getSequence() - 1)
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(content)
+				.doesNotContain("event:snapshot")
+				.contains("id:" + missed.getSequence())
+				.contains("\"status\":\"CLOSED\"");
+	}
+
+	@Test
+	void rejectsUnknownAuctions() throws Exception {
+		// the stream is only opened for existing auctions, so the error is rendered as a regular JSON response
+		mockMvc.perform(get("/public/auctions/{id}/events", Long.MAX_VALUE)
+						.accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound());
+	}
+
+	private static void waitUntilContains(MockHttpServletResponse response, String text) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!response.getContentAsString().contains(text) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(response.getContentAsString()).contains(text);
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.github.felxx.backend.sse;
+
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionResumeDTO;
+import com.github.felxx.backend.dto.websocket.AuctionSnapshotDTO;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.service.AuctionEventLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionSseRegistryTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private AuctionEventLog eventLog;
+	private AuctionSseRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		eventLog = mock(AuctionEventLog.class);
+		registry = new AuctionSseRegistry(meterRegistry, eventLog, 60000, 64, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		registry.shutdown();
+	}
+
+	@Test
+	void lostEventsCloseOnlyWatchersThatMissedSomething() {
+		registry.watch(1L, () -> resume(1L, 100L));
+		registry.watch(2L, () -> resume(2L, 200L));
+		registry.watch(3L, () -> resume(3L, 300L));
+		registry.onEvent(statusEvent(2L, 201L));
+
+		registry.onEventsLost(10);
+		when(eventLog.lastSequence(1L)).thenReturn(102L);
+		when(eventLog.lastSequence(2L)).thenReturn(201L);
+		when(eventLog.lastSequence(3L)).thenReturn(300L);
+		registry.heartbeat();
+
+		assertThat(meterRegistry.get("sse.watchers.active").gauge().value()).isEqualTo(2.0);
+		assertThat(meterRegistry.get("sse.watchers.resynced").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void watchersAreOnlyCheckedAfterEventsWereLost() {
+		registry.watch(1L, () -> resume(1L, 100L));
+		when(eventLog.lastSequence(1L)).thenReturn(150L);
+
+		registry.heartbeat();
+
+		assertThat(meterRegistry.get("sse.watchers.active").gauge().value()).isEqualTo(1.0);
+	}
+
+	private static AuctionResumeDTO resume(Long auctionId, Long sequence) {
+		AuctionSnapshotDTO snapshot = new AuctionSnapshotDTO(auctionId, sequence, AuctionStatus.OPEN,
+				LocalDateTime.now().plusDays(1), 10f, null, 0, null, LocalDateTime.now());
+		return new AuctionResumeDTO(auctionId, List.of(), snapshot);
+	}
+
+	private static AuctionEvent statusEvent(Long auctionId, long sequence) {
+		AuctionStatusUpdateDTO update = new AuctionStatusUpdateDTO(auctionId, AuctionStatus.OPEN, LocalDateTime.now(), sequence);
+		return new AuctionEvent(auctionId, AuctionEventType.STATUS, update, System.nanoTime());
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.felxx.backend.support;
+
+import com.github.felxx.backend.model.Auction;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.model.Category;
+import com.github.felxx.backend.model.Person;
+import com.github.felxx.backend.repository.AuctionRepository;
+import com.github.felxx.backend.repository.CategoryRepository;
+import com.github.felxx.backend.repository.PersonRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class AuctionFixtures {
+
+	private final PersonRepository personRepository;
+	private final CategoryRepository categoryRepository;
+	private final AuctionRepository auctionRepository;
+
+	public AuctionFixtures(
+			PersonRepository personRepository,
+			CategoryRepository categoryRepository,
+			AuctionRepository auctionRepository) {
+		this.personRepository = personRepository;
+		this.categoryRepository = categoryRepository;
+		this.auctionRepository = auctionRepository;
+	}
+
+	public Person person(String name) {
+		Person person = new Person();
+		person.setName(name);
+		person.setEmail(name.toLowerCase().replace(' ', '.') + "-" + UUID.randomUUID() + "@test.local");
+		person.setPassword("Password@123");
+		person.setPersonProfile(List.of());
+		return personRepository.save(person);
+	}
+
+	public Category category(String name) {
+		Category category = new Category();
+		category.setName(name);
+		return categoryRepository.save(category);
+	}
+
+	public Auction openAuction(Person publisher, Category category, String title, float minimumBid) {
+		LocalDateTime now = LocalDateTime.now();
+		return auction(publisher, category, title, minimumBid, AuctionStatus.OPEN, now.minusMinutes(5), now.plusHours(1));
+	}
+
+	public Auction auction(Person publisher, Category category, String title, float minimumBid,
+			AuctionStatus status, LocalDateTime start, LocalDateTime end) {
+		Auction auction = new Auction();
+		auction.setTitle(title);
+		auction.setDescription(title + " description");
+		auction.setStartDateTime(start);
+		auction.setEndDateTime(end);
+		auction.setStatus(status);
+		auction.setMinimumBid(minimumBid);
+		auction.setBidCount(0);
+		auction.setPublisher(publisher);
+		auction.setCategory(category);
+		return auctionRepository.save(auction);
+	}
+
+	public static void authenticate(Person person) {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				person.getEmail(), null, List.of(new SimpleGrantedAuthority("BUYER"))));
+	}
+
+	public static void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+}
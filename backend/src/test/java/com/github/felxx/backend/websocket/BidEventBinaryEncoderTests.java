@@ -0,0 +1,170 @@
+package com.github.felxx.backend.websocket;
+
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+class BidEventBinaryEncoderTests {
+
+	private final BidEventBinaryEncoder encoder = new BidEventBinaryEncoder();
+
+	@Test
+	void encodesTheFixedLayoutFollowedByTheBidderName() {
+		LocalDateTime bidAt = LocalDateTime.of(2026, 5, 1, 12, 30);
+		BidNotificationDTO bid = new BidNotificationDTO(7L, 42L, 15.5f, "Zoë", bidAt, 15.5f, 3, 99L);
+
+		ByteBuffer frame = ByteBuffer.wrap(encoder.encode(bid));
+
+		assertThat(frame.get()).isEqualTo(BidEventBinaryEncoder.VERSION);
+		assertThat(frame.get()).isEqualTo(BidEventBinaryEncoder.TYPE_BID);
+		assertThat(frame.getLong()).isEqualTo(7L);
+		assertThat(frame.getLong()).isEqualTo(99L);
+		assertThat(frame.getLong()).isEqualTo(42L);
+		assertThat(frame.getFloat()).isEqualTo(15.5f);
+		assertThat(frame.getFloat()).isEqualTo(15.5f);
+		assertThat(frame.getInt()).isEqualTo(3);
+		assertThat(frame.getLong()).isEqualTo(bidAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		byte[] name = new byte[frame.getShort()];
+		frame.get(name);
+		assertThat(new String(name, StandardCharsets.UTF_8)).isEqualTo("Zoë");
+		assertThat(frame.hasRemaining()).isFalse();
+	}
+
+	@Test
+	void truncatesLongNamesAndDefaultsMissingFields() {
+		byte[] longFrame = encoder.encode(new BidNotificationDTO(1L, 1L, 1f, "x".repeat(1000), null, 1f, 1, 1L));
+		byte[] shortFrame = encoder.encode(new BidNotificationDTO(2L, null, null, null, null, null, null, null));
+
+		assertThat(ByteBuffer.wrap(longFrame, longFrame.length - 255 - 2, 2).getShort()).isEqualTo((short) 255);
+		ByteBuffer frame = ByteBuffer.wrap(shortFrame);
+		frame.position(2);
+		assertThat(frame.getLong()).isEqualTo(2L);
+		assertThat(frame.getLong()).isZero();
+		assertThat(frame.getLong()).isEqualTo(-1L);
+		assertThat(shortFrame.length).isEqualTo(longFrame.length - 255);
+	}
+
+	@Test
+	void namesAreTruncatedOnCodePointBoundaries() {
+		// 127 two-byte characters fill 254 bytes, so the following four-byte emoji no longer fits
+		String name = "é".repeat(127) + "\uD83D\uDE00";
+		byte[] frame = encoder.encode(new BidNotificationDTO(1L, 1L, 1f, name, null, 1f, 1, 1L));
+		byte[] emoji = encoder.encode(new BidNotificationDTO(1L, 1L, 1f, "a\uD83D\uDE00\uD83D", null, 1f, 1, 1L));
+
+		assertThat(new String(frame, frame.length - 254, 254, StandardCharsets.UTF_8)).isEqualTo("é".repeat(127));
+		assertThat(new String(emoji, emoji.length - 6, 6, StandardCharsets.UTF_8)).isEqualTo("a\uD83D\uDE00?");
+	}
+
+	@Test
+	void encodingAllocatesOnlyThePayload() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+		BidNotificationDTO bid = new BidNotificationDTO(7L, 42L, 15.5f, "Zoë Bidder",
+				LocalDateTime.of(2026, 5, 1, 12, 30), 15.5f, 3, 99L);
+		int frameLength = encoder.encode(bid).length;
+		int iterations = 100_000;
+		for (int i = 0; i < iterations; i++) {
+			encoder.encode(bid);
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		long sink = 0;
+		for (int i = 0; i < iterations; i++) {
+			sink += encoder.encode(bid).length;
+		}
+		long perFrame = (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		assertThat(sink).isEqualTo((long) frameLength * iterations);
+		// one byte[]: the array header plus the payload rounded up to the object alignment
+		assertThat(perFrame).isLessThanOrEqualTo(frameLength + 24L);
+	}
+
+	@Test
+	void binarySubscriptionsAreRoutedAndCounted() {
+		BinarySubscriptions subscriptions = new BinarySubscriptions("simple");
+		MessageChannel channel = mock(MessageChannel.class);
+
+		Message<?> binary = subscriptions.preSend(subscribe("s1", "sub-1", "/topic/auction/5", "binary"), channel);
+		subscriptions.preSend(subscribe("s2", "sub-1", "/topic/auction/5", null), channel);
+
+		assertThat(StompHeaderAccessor.wrap(binary).getDestination()).isEqualTo("/topic/auction/5.bin");
+		assertThat(subscriptions.hasSubscribers(5L)).isTrue();
+
+		subscriptions.preSend(disconnect("s1"), channel);
+		assertThat(subscriptions.hasSubscribers(5L)).isFalse();
+	}
+
+	@Test
+	void binaryEncodingIsIgnoredOnSockJsSessions() {
+		BinarySubscriptions subscriptions = new BinarySubscriptions("simple");
+
+		Message<?> message = subscriptions.preSend(
+				subscribe("s1", "sub-1", "/topic/auction/5", "binary", false), mock(MessageChannel.class));
+
+		assertThat(StompHeaderAccessor.wrap(message).getDestination()).isEqualTo("/topic/auction/5");
+		assertThat(subscriptions.hasSubscribers(5L)).isFalse();
+	}
+
+	@Test
+	void behindARelayBinaryFramesAreAlwaysPublished() {
+		BinarySubscriptions subscriptions = new BinarySubscriptions("relay");
+
+		// subscribers connected to other nodes are not visible here
+		assertThat(subscriptions.hasSubscribers(5L)).isTrue();
+	}
+
+	@Test
+	void nativeHandshakesAreMarked() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		assertThat(new BinarySubscriptions("simple").beforeHandshake(null, null, null, attributes)).isTrue();
+		assertThat(attributes).containsEntry(BinarySubscriptions.NATIVE_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+	}
+
+	private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination, String encoding) {
+		return subscribe(sessionId, subscriptionId, destination, encoding, true);
+	}
+
+	private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination, String encoding,
+											 boolean nativeTransport) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		Map<String, Object> sessionAttributes = new HashMap<>();
+		if (nativeTransport) {
+			sessionAttributes.put(BinarySubscriptions.NATIVE_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+		}
+		accessor.setSessionAttributes(sessionAttributes);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		if (encoding != null) {
+			accessor.setNativeHeader(BinarySubscriptions.ENCODING_HEADER, encoding);
+		}
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private static Message<byte[]> disconnect(String sessionId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		accessor.setSessionId(sessionId);
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,99 @@
+package com.github.felxx.backend.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboundBackpressureTests {
+
+	private static final String SESSION_ID = "session-1";
+
+	private static int sequence;
+
+	private MessageChannel clientOutboundChannel;
+	private OutboundBackpressure backpressure;
+	private WebSocketSession meteredSession;
+
+	@BeforeEach
+	void connect() throws Exception {
+		clientOutboundChannel = mock(MessageChannel.class);
+		backpressure = new OutboundBackpressure(clientOutboundChannel, new SimpleMeterRegistry(), 10);
+
+		WebSocketHandler handler = mock(WebSocketHandler.class);
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(SESSION_ID);
+		backpressure.decorate(handler).afterConnectionEstablished(session);
+
+		ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+		verify(handler).afterConnectionEstablished(captor.capture());
+		meteredSession = captor.getValue();
+	}
+
+	@Test
+	void passesMessagesThroughWhileTheSessionKeepsUp() {
+		Message<byte[]> update = bidUpdate("/topic/auction/1");
+
+		assertThat(backpressure.preSend(update, clientOutboundChannel)).isSameAs(update);
+		assertThat(stats().getQueuedBytes()).isEqualTo(8);
+	}
+
+	@Test
+	void conflatesBidUpdatesForSlowSessionsAndFlushesTheLatestOnce() throws Exception {
+		backpressure.preSend(bidUpdate("/topic/auction/1"), clientOutboundChannel);
+		backpressure.preSend(bidUpdate("/topic/auction/1"), clientOutboundChannel);
+
+		Message<byte[]> superseded = bidUpdate("/topic/auction/1");
+		Message<byte[]> latest = bidUpdate("/topic/auction/1");
+		assertThat(backpressure.preSend(superseded, clientOutboundChannel)).isNull();
+		assertThat(backpressure.preSend(latest, clientOutboundChannel)).isNull();
+		assertThat(stats().getDroppedMessages()).isEqualTo(1);
+		assertThat(stats().getParkedMessages()).isEqualTo(1);
+		verify(clientOutboundChannel, never()).send(any());
+
+		meteredSession.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/auction/1\n\n"));
+
+		verify(clientOutboundChannel).send(latest);
+		verify(clientOutboundChannel, never()).send(superseded);
+		assertThat(stats().getParkedMessages()).isZero();
+	}
+
+	@Test
+	void neverConflatesNonBidDestinations() {
+		backpressure.preSend(bidUpdate("/topic/auction/1"), clientOutboundChannel);
+		backpressure.preSend(bidUpdate("/topic/auction/1"), clientOutboundChannel);
+
+		Message<byte[]> status = bidUpdate("/topic/auction/1/status");
+		assertThat(backpressure.preSend(status, clientOutboundChannel)).isSameAs(status);
+		assertThat(stats().getDroppedMessages()).isZero();
+	}
+
+	private OutboundSessionStats stats() {
+		return backpressure.getSessions().iterator().next();
+	}
+
+	private static Message<byte[]> bidUpdate(String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(SESSION_ID);
+		accessor.setDestination(destination);
+		byte[] payload = new byte[8];
+		payload[0] = (byte) ++sequence;
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+
+}
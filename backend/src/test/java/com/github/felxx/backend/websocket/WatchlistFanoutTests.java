@@ -0,0 +1,136 @@
+package com.github.felxx.backend.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.felxx.backend.dto.websocket.AuctionEventType;
+import com.github.felxx.backend.dto.websocket.AuctionStatusUpdateDTO;
+import com.github.felxx.backend.dto.websocket.BidNotificationDTO;
+import com.github.felxx.backend.event.AuctionEvent;
+import com.github.felxx.backend.model.AuctionStatus;
+import com.github.felxx.backend.repository.WatchlistRepository;
+import com.github.felxx.backend.service.WatchlistIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WatchlistFanoutTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private WatchlistIndex watchlistIndex;
+	private SimpMessagingTemplate messagingTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private WatchlistFanout fanout;
+	private final Map<String, List<JsonNode>> delivered = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		watchlistIndex = new WatchlistIndex(mock(WatchlistRepository.class));
+		messagingTemplate = mock(SimpMessagingTemplate.class);
+		SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+		when(userRegistry.getUser("online@test.local")).thenReturn(mock(SimpUser.class));
+		meterRegistry = new SimpleMeterRegistry();
+		fanout = new WatchlistFanout(watchlistIndex, messagingTemplate, userRegistry, objectMapper, meterRegistry, 1, 2);
+		watchlistIndex.add(1L, 10L, "online@test.local");
+		watchlistIndex.add(1L, 20L, "offline@test.local");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fanout.shutdown();
+	}
+
+	@Test
+	void deliversOnlyToConnectedWatchers() throws Exception {
+		recordDeliveries(null);
+
+		fanout.onEvent(bid(1));
+
+		waitFor(() -> meterRegistry.get("watchlist.fanout.offline").counter().count() == 1
+				&& meterRegistry.get("watchlist.fanout.sent").counter().count() == 1);
+		assertThat(delivered).containsOnlyKeys("/user/online@test.local/queue/watchlist");
+	}
+
+	@Test
+	void doesNotBlockTheBusAndKeepsOnlyTheLatestBid() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		recordDeliveries(release);
+
+		long started = System.nanoTime();
+		fanout.onEvent(bid(1));
+		waitFor(() -> !delivered.isEmpty());
+		fanout.onEvent(bid(2));
+		fanout.onEvent(bid(3));
+		fanout.onEvent(close(4));
+		fanout.onEvent(bid(5));
+		// the first delivery is still blocked, yet every event was accepted right away
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+		release.countDown();
+
+		waitFor(() -> delivered.get("/user/online@test.local/queue/watchlist").size() == 4);
+		List<JsonNode> events = delivered.get("/user/online@test.local/queue/watchlist");
+		assertThat(events).extracting(event -> event.get("sequence").asLong()).containsExactly(1L, 3L, 4L, 5L);
+		assertThat(meterRegistry.get("watchlist.fanout.coalesced").counter().count()).isEqualTo(1);
+		assertThat(watchlistIndex.watchers(1L)).isEmpty();
+	}
+
+	private void recordDeliveries(CountDownLatch release) {
+		doAnswer(invocation -> {
+			Message<byte[]> message = invocation.getArgument(1);
+			delivered.computeIfAbsent(invocation.getArgument(0), destination -> new CopyOnWriteArrayList<>())
+					.add(readTree(message.getPayload()));
+			if (release != null) {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return null;
+		}).when(messagingTemplate).send(anyString(), any(Message.class));
+	}
+
+	private JsonNode readTree(byte[] payload) throws IOException {
+		return objectMapper.readTree(payload);
+	}
+
+	private static AuctionEvent bid(long sequence) {
+		BidNotificationDTO bid = new BidNotificationDTO(1L, sequence, 10f, "Ana", LocalDateTime.now(), 10f,
+				(int) sequence, sequence);
+		return new AuctionEvent(1L, AuctionEventType.BID, bid, System.nanoTime());
+	}
+
+	private static AuctionEvent close(long sequence) {
+		AuctionStatusUpdateDTO update = new AuctionStatusUpdateDTO(1L, AuctionStatus.CLOSED, LocalDateTime.now(), sequence);
+		return new AuctionEvent(1L, AuctionEventType.STATUS, update, System.nanoTime());
+	}
+
+	private static void waitFor(Check check) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!check.done() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(check.done()).isTrue();
+	}
+
+	private interface Check {
+		boolean done();
+	}
+}
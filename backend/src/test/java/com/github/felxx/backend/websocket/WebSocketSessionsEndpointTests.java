@@ -0,0 +1,48 @@
+package com.github.felxx.backend.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebSocketSessionsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void rejectsAnonymousRequests() throws Exception {
+		mockMvc.perform(get("/actuator/websocketsessions"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(authorities = "BUYER")
+	void rejectsNonAdminUsers() throws Exception {
+		mockMvc.perform(get("/actuator/websocketsessions"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(authorities = "ADMIN")
+	void listsSessionsForAdmins() throws Exception {
+		mockMvc.perform(get("/actuator/websocketsessions"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").isArray());
+	}
+
+	@Test
+	void keepsMetricsPublic() throws Exception {
+		mockMvc.perform(get("/actuator/metrics"))
+				.andExpect(status().isOk());
+	}
+
+}
@@ -8,6 +8,7 @@ import { Button } from 'primereact/button';
 import { confirmDialog } from 'primereact/confirmdialog';
 import { ConfirmDialog } from 'primereact/confirmdialog';
 import authService from '../../services/auth/authService';
+import websocketService from '../../services/websocketService';
 import { createLogger } from '../../utils/logger';
 import './Layout.css';
 
@@ -26,6 +27,29 @@ const Layout = ({ children }) => {
         logger.debug('User roles:', user?.roles);
     }, [user]);
 
+    React.useEffect(() => {
+        if (!user) {
+            return undefined;
+        }
+        const subscribeOutbid = () => {
+            websocketService.subscribe('/user/queue/outbid', (notification) => {
+                toast.current?.show({
+                    severity: 'warn',
+                    summary: 'You were outbid',
+                    detail: `${notification.auctionTitle}: current price is ${notification.currentPrice}`,
+                    life: 6000
+                });
+            });
+        };
+        websocketService.connect(subscribeOutbid, (error) => {
+            logger.error('WebSocket connection error', error);
+        });
+        return () => {
+            websocketService.removeConnectListener(subscribeOutbid);
+            websocketService.unsubscribe('/user/queue/outbid');
+        };
+    }, [user]);
+
     const hasRole = (roleToCheck) => {
         if (!user) return false;
         
@@ -51,6 +75,7 @@ const Layout = ({ children }) => {
             icon: 'pi pi-exclamation-triangle',
             accept: () => {
                 authService.logout();
+                websocketService.disconnect();
                 toast.current.show({
                     severity: 'success',
                     summary: 'Logout successful',
@@ -1,19 +1,74 @@
-import { useEffect, useCallback } from 'react';
+import { useEffect, useCallback, useRef } from 'react';
 import websocketService from '../services/websocketService';
 import { createLogger } from '../utils/logger';
 
 const logger = createLogger('useAuctionUpdates');
 
-const useAuctionUpdates = (auctionId, onBidUpdate, onStatusUpdate) => {
+const useAuctionUpdates = (auctionId, onBidUpdate, onStatusUpdate, onSnapshot) => {
+    const lastSequence = useRef(null);
+
+    const accept = useCallback((event) => {
+        if (event.sequence == null) {
+            return true;
+        }
+        if (lastSequence.current != null && event.sequence <= lastSequence.current) {
+            return false;
+        }
+        lastSequence.current = event.sequence;
+        return true;
+    }, []);
+
+    const applySnapshot = useCallback((snapshot) => {
+        if (lastSequence.current != null && snapshot.sequence < lastSequence.current) {
+            return;
+        }
+        lastSequence.current = snapshot.sequence;
+        if (onSnapshot) {
+            onSnapshot(snapshot);
+        }
+    }, [onSnapshot]);
+
     const handleConnect = useCallback(() => {
-        if (auctionId && onBidUpdate) {
-            websocketService.subscribe(`/topic/auction/${auctionId}`, onBidUpdate);
+        if (!auctionId) {
+            return;
         }
-        
-        if (auctionId && onStatusUpdate) {
-            websocketService.subscribe(`/topic/auction/${auctionId}/status`, onStatusUpdate);
+
+        if (onBidUpdate) {
+            websocketService.subscribe(`/topic/auction/${auctionId}`, (event) => {
+                if (accept(event)) onBidUpdate(event);
+            });
         }
-    }, [auctionId, onBidUpdate, onStatusUpdate]);
+
+        if (onStatusUpdate) {
+            websocketService.subscribe(`/topic/auction/${auctionId}/status`, (event) => {
+                if (accept(event)) onStatusUpdate(event);
+            });
+        }
+
+        const replyDestination = lastSequence.current != null
+            ? `/app/auction/${auctionId}/resume/${lastSequence.current}`
+            : `/app/auction/${auctionId}/snapshot`;
+
+        websocketService.subscribe(replyDestination, (reply) => {
+            websocketService.unsubscribe(replyDestination);
+            if (reply.events) {
+                reply.events.forEach((event) => {
+                    if (!accept(event.payload)) return;
+                    if (event.type === 'BID' && onBidUpdate) onBidUpdate(event.payload);
+                    if (event.type === 'STATUS' && onStatusUpdate) onStatusUpdate(event.payload);
+                });
+            }
+            if (reply.snapshot) {
+                applySnapshot(reply.snapshot);
+            } else if (!reply.events) {
+                applySnapshot(reply);
+            }
+        });
+    }, [auctionId, onBidUpdate, onStatusUpdate, accept, applySnapshot]);
+
+    useEffect(() => {
+        lastSequence.current = null;
+    }, [auctionId]);
 
     useEffect(() => {
         websocketService.connect(handleConnect, (error) => {
@@ -21,6 +76,7 @@ const useAuctionUpdates = (auctionId, onBidUpdate, onStatusUpdate) => {
         });
 
         return () => {
+            websocketService.removeConnectListener(handleConnect);
             if (auctionId) {
                 websocketService.unsubscribe(`/topic/auction/${auctionId}`);
                 websocketService.unsubscribe(`/topic/auction/${auctionId}/status`);
@@ -64,6 +64,21 @@ const AuctionDetail = () => {
     };
 
     const handleStatusUpdate = (statusData) => {
+        if (statusData.event === 'EXTENDED') {
+            setAuction(prev => ({
+                ...prev,
+                endDateTime: statusData.endDateTime
+            }));
+
+            toast.current.show({
+                severity: 'info',
+                summary: 'Auction Extended',
+                detail: 'A late bid extended the auction end time',
+                life: 4000
+            });
+            return;
+        }
+
         setAuction(prev => ({
             ...prev,
             status: statusData.status
@@ -83,7 +98,17 @@ const AuctionDetail = () => {
         });
     };
 
-    useAuctionUpdates(id, handleBidUpdate, handleStatusUpdate);
+    const handleSnapshot = (snapshot) => {
+        setAuction(prev => prev ? {
+            ...prev,
+            status: snapshot.status,
+            endDateTime: snapshot.endDateTime,
+            currentPrice: snapshot.currentPrice,
+            totalBids: snapshot.totalBids
+        } : prev);
+    };
+
+    useAuctionUpdates(id, handleBidUpdate, handleStatusUpdate, handleSnapshot);
 
     useEffect(() => {
         loadAuctionDetail();
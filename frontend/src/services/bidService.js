@@ -1,9 +1,11 @@
 import api from './api';
 
-const placeBid = async (auctionId, amount) => {
+const placeBid = async (auctionId, amount, idempotencyKey = crypto.randomUUID()) => {
     const response = await api.post('/bids', {
         auctionId,
         amount
+    }, {
+        headers: { 'Idempotency-Key': idempotencyKey }
     });
     return response.data;
 };
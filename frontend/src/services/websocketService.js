@@ -1,29 +1,39 @@
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
+import authService from './auth/authService';
 
 class WebSocketService {
     constructor() {
         this.client = null;
         this.connected = false;
         this.subscriptions = new Map();
+        this.connectListeners = new Set();
         this.baseUrl = process.env.REACT_APP_API_URL || 'http://localhost:8080';
     }
 
     connect(onConnected, onError) {
+        if (onConnected) this.connectListeners.add(onConnected);
         if (this.connected) {
             if (onConnected) onConnected();
             return;
         }
+        if (this.client) {
+            return;
+        }
 
         this.client = new Client({
             webSocketFactory: () => new SockJS(`${this.baseUrl}/ws`),
+            beforeConnect: () => {
+                const token = authService.getToken();
+                this.client.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+            },
             reconnectDelay: 5000,
             heartbeatIncoming: 4000,
             heartbeatOutgoing: 4000,
             onConnect: () => {
                 this.connected = true;
                 console.log('WebSocket connected');
-                if (onConnected) onConnected();
+                this.connectListeners.forEach((listener) => listener());
             },
             onStompError: (frame) => {
                 console.error('WebSocket error:', frame);
@@ -46,6 +56,7 @@ class WebSocketService {
             });
             this.subscriptions.clear();
             this.client.deactivate();
+            this.client = null;
             this.connected = false;
         }
     }
@@ -77,6 +88,10 @@ class WebSocketService {
         }
     }
 
+    removeConnectListener(listener) {
+        this.connectListeners.delete(listener);
+    }
+
     isConnected() {
         return this.connected;
     }
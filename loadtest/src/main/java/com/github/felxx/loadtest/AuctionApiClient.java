@@ -0,0 +1,118 @@
+package com.github.felxx.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class AuctionApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public AuctionApiClient(String baseUrl, ObjectMapper objectMapper, Executor executor) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .executor(executor)
+                .build();
+    }
+
+    public boolean isHealthy() {
+        try {
+            return send(get("/public/auctions/ending-soon?limit=1")).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public String register(String name, String email, String password, String profileType)
+            throws IOException, InterruptedException {
+        JsonNode response = expectOk(post("/auth/register", null, Map.of(
+                "name", name,
+                "email", email,
+                "password", password,
+                "profileType", profileType)));
+        return response.get("token").asText();
+    }
+
+    public long createCategory(String token, String name) throws IOException, InterruptedException {
+        return expectOk(post("/categories", token, Map.of("name", name, "description", name)))
+                .get("id").asLong();
+    }
+
+    public long createAuction(String token, String title, long categoryId, LocalDateTime end, float minimumBid)
+            throws IOException, InterruptedException {
+        return expectOk(post("/auctions", token, Map.of(
+                "title", title,
+                "description", title,
+                "startDateTime", LocalDateTime.now().minusMinutes(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "endDateTime", end.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "minimumBid", minimumBid,
+                "categoryId", categoryId)))
+                .get("id").asLong();
+    }
+
+    public CompletableFuture<Integer> bid(String token, long auctionId, float amount) {
+        try {
+            return httpClient.sendAsync(post("/bids", token, Map.of("auctionId", auctionId, "amount", amount)),
+                            HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public double metric(String name, String tag) throws IOException, InterruptedException {
+        String path = "/actuator/metrics/" + name + (tag != null ? "?tag=" + tag : "");
+        return expectOk(get(path)).get("measurements").get(0).get("value").asDouble();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private JsonNode expectOk(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.felxx.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+public class BackendProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+
+    private BackendProcess(Process process) {
+        this.process = process;
+    }
+
+    public static BackendProcess launch(String jar, int port, AuctionApiClient api) throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        File logFile = File.createTempFile("auction-backend-", ".log");
+        Process process = new ProcessBuilder(List.of(
+                java,
+                "-jar", jar,
+                "--spring.profiles.active=loadtest",
+                "--server.port=" + port))
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+        log.info("Started backend pid {} on port {}, logging to {}", process.pid(), port, logFile);
+
+        BackendProcess backend = new BackendProcess(process);
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!api.isHealthy()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            if (System.nanoTime() > deadline) {
+                backend.close();
+                throw new IllegalStateException("Backend did not become healthy within " + STARTUP_TIMEOUT);
+            }
+            Thread.sleep(1000);
+        }
+        return backend;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.felxx.loadtest;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class LoadTestOptions {
+
+    private final String baseUrl;
+    private final String wsPath;
+    private final String launchJar;
+    private final int port;
+    private final int sessions;
+    private final int auctions;
+    private final int bidders;
+    private final int connectConcurrency;
+    private final int bidRate;
+    private final int durationSeconds;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.port = Integer.parseInt(values.getOrDefault("port", "8080"));
+        this.baseUrl = values.getOrDefault("target", "http://localhost:" + port);
+        this.wsPath = values.getOrDefault("ws-path", "/ws-native");
+        this.launchJar = values.get("launch");
+        this.sessions = Integer.parseInt(values.getOrDefault("sessions", "1000"));
+        this.auctions = Integer.parseInt(values.getOrDefault("auctions", "10"));
+        this.bidders = Integer.parseInt(values.getOrDefault("bidders", "20"));
+        this.connectConcurrency = Integer.parseInt(values.getOrDefault("connect-concurrency", "100"));
+        this.bidRate = Integer.parseInt(values.getOrDefault("bid-rate", "50"));
+        this.durationSeconds = Integer.parseInt(values.getOrDefault("duration", "60"));
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String getWebSocketUrl() {
+        return baseUrl.replaceFirst("^http", "ws") + wsPath;
+    }
+}
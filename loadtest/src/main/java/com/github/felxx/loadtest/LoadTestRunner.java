@@ -0,0 +1,141 @@
+package com.github.felxx.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "LoadTest@123";
+    private static final float MINIMUM_BID = 10f;
+    private static final long SETTLE_MILLIS = 5000;
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ExecutorService httpExecutor = Executors.newFixedThreadPool(8);
+    private final AuctionApiClient api;
+    private final Map<String, Long> bidSentAt = new ConcurrentHashMap<>();
+
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.api = new AuctionApiClient(options.getBaseUrl(), objectMapper, httpExecutor);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadTestRunner runner = new LoadTestRunner(options);
+        if (options.getLaunchJar() != null) {
+            try (BackendProcess ignored = BackendProcess.launch(options.getLaunchJar(), options.getPort(), runner.api)) {
+                runner.run();
+            }
+        } else {
+            runner.run();
+        }
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        String suffix = Long.toString(System.currentTimeMillis(), 36);
+        String adminToken = api.register("Load Admin", "admin-" + suffix + "@loadtest.local", PASSWORD, "ADMIN");
+        String sellerToken = api.register("Load Seller", "seller-" + suffix + "@loadtest.local", PASSWORD, "SELLER");
+        List<String> bidderTokens = new ArrayList<>();
+        for (int i = 0; i < options.getBidders(); i++) {
+            bidderTokens.add(api.register("Load Bidder " + i, "bidder-" + i + "-" + suffix + "@loadtest.local",
+                    PASSWORD, "BUYER"));
+        }
+
+        long categoryId = api.createCategory(adminToken, "Load test " + suffix);
+        LocalDateTime end = LocalDateTime.now().plusSeconds(options.getDurationSeconds()).plusMinutes(10);
+        List<Long> auctionIds = new ArrayList<>();
+        for (int i = 0; i < options.getAuctions(); i++) {
+            auctionIds.add(api.createAuction(sellerToken, "Load test auction " + i, categoryId, end, MINIMUM_BID));
+        }
+        log.info("Created {} auctions and {} bidders", auctionIds.size(), bidderTokens.size());
+
+        double heapBefore = api.metric("jvm.memory.used", "area:heap");
+        double threadsBefore = api.metric("jvm.threads.live", null);
+
+        try (StompWatchers watchers = new StompWatchers(objectMapper, bidSentAt)) {
+            long connectNanos = watchers.connect(options.getWebSocketUrl(), options.getSessions(),
+                    options.getConnectConcurrency(), auctionIds);
+            Thread.sleep(SETTLE_MILLIS);
+
+            double heapAfter = api.metric("jvm.memory.used", "area:heap");
+            double threadsAfter = api.metric("jvm.threads.live", null);
+            int connected = watchers.connected();
+
+            BidResult bids = driveBids(auctionIds, bidderTokens);
+            Thread.sleep(SETTLE_MILLIS);
+
+            report(watchers, connected, connectNanos, heapBefore, heapAfter, threadsBefore, threadsAfter, bids);
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    private BidResult driveBids(List<Long> auctionIds, List<String> bidderTokens) throws InterruptedException {
+        Map<Long, AtomicInteger> increments = new ConcurrentHashMap<>();
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicInteger next = new AtomicInteger();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long periodMicros = Math.max(1, 1_000_000L / Math.max(1, options.getBidRate()));
+        scheduler.scheduleAtFixedRate(() -> {
+            long auctionId = auctionIds.get(Math.floorMod(next.getAndIncrement(), auctionIds.size()));
+            float amount = MINIMUM_BID + increments.computeIfAbsent(auctionId, id -> new AtomicInteger()).incrementAndGet();
+            String token = bidderTokens.get(ThreadLocalRandom.current().nextInt(bidderTokens.size()));
+            bidSentAt.put(StompWatchers.bidKey(auctionId, amount), System.nanoTime());
+            api.bid(token, auctionId, amount).whenComplete((status, error) -> {
+                if (error == null && status / 100 == 2) {
+                    accepted.incrementAndGet();
+                } else {
+                    rejected.incrementAndGet();
+                }
+            });
+        }, 0, periodMicros, TimeUnit.MICROSECONDS);
+
+        scheduler.awaitTermination(options.getDurationSeconds(), TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+        return new BidResult(accepted.get(), rejected.get());
+    }
+
+    private void report(StompWatchers watchers, int connected, long connectNanos,
+                        double heapBefore, double heapAfter, double threadsBefore, double threadsAfter,
+                        BidResult bids) {
+        double connectSeconds = connectNanos / 1_000_000_000.0;
+        int perSession = Math.max(1, connected);
+        System.out.println();
+        System.out.println("=== WebSocket fan-out load test ===");
+        System.out.printf("target                 %s (%d auctions)%n", options.getWebSocketUrl(), options.getAuctions());
+        System.out.printf("sessions connected     %d of %d (%d failed)%n",
+                connected, options.getSessions(), watchers.getConnectFailures());
+        System.out.printf("connection setup rate  %.1f sessions/s over %.2fs%n", connected / connectSeconds, connectSeconds);
+        System.out.printf("connect latency        %s%n", watchers.getConnectLatency().summary());
+        System.out.printf("server heap per session %.1f KiB (%.1f MiB -> %.1f MiB, before GC)%n",
+                (heapAfter - heapBefore) / perSession / 1024, heapBefore / 1048576, heapAfter / 1048576);
+        System.out.printf("server threads per session %.3f (%.0f -> %.0f)%n",
+                (threadsAfter - threadsBefore) / perSession, threadsBefore, threadsAfter);
+        System.out.printf("bids                   %d accepted, %d rejected in %ds%n",
+                bids.accepted(), bids.rejected(), options.getDurationSeconds());
+        System.out.printf("messages received      %d%n", watchers.getMessagesReceived());
+        System.out.printf("delivery latency       %s%n", watchers.getDeliveryLatency().summary());
+    }
+
+    private record BidResult(long accepted, long rejected) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.felxx.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class StompWatchers implements AutoCloseable {
+
+    private final WebSocketStompClient stompClient;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+    private final Map<String, Long> bidSentAt;
+
+    private final Queue<StompSession> sessions = new ConcurrentLinkedQueue<>();
+    private final LatencyRecorder connectLatency = new LatencyRecorder();
+    private final LatencyRecorder deliveryLatency = new LatencyRecorder();
+    private final AtomicInteger connectFailures = new AtomicInteger();
+    private final AtomicLong messagesReceived = new AtomicLong();
+
+    public StompWatchers(ObjectMapper objectMapper, Map<String, Long> bidSentAt) {
+        this.bidSentAt = bidSentAt;
+        this.heartbeatScheduler = new ThreadPoolTaskScheduler();
+        this.heartbeatScheduler.setPoolSize(2);
+        this.heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        this.heartbeatScheduler.initialize();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(converter);
+        this.stompClient.setTaskScheduler(heartbeatScheduler);
+        this.stompClient.setDefaultHeartbeat(new long[]{10000, 10000});
+    }
+
+    public static String bidKey(long auctionId, float amount) {
+        return auctionId + ":" + amount;
+    }
+
+    public long connect(String url, int count, int concurrency, List<Long> auctionIds) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        long started = System.nanoTime();
+        CompletableFuture<?>[] attempts = new CompletableFuture<?>[count];
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            long auctionId = auctionIds.get(i % auctionIds.size());
+            long attemptStarted = System.nanoTime();
+            attempts[i] = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+                    })
+                    .whenComplete((session, error) -> {
+                        permits.release();
+                        if (error != null) {
+                            connectFailures.incrementAndGet();
+                            log.debug("STOMP connect failed: {}", error.getMessage());
+                            return;
+                        }
+                        connectLatency.record(System.nanoTime() - attemptStarted);
+                        session.subscribe("/topic/auction/" + auctionId, new BidFrameHandler());
+                        sessions.add(session);
+                    });
+        }
+        try {
+            CompletableFuture.allOf(attempts).get(5, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("Not every STOMP connection completed: {}", e.getMessage());
+        }
+        return System.nanoTime() - started;
+    }
+
+    public int connected() {
+        return sessions.size();
+    }
+
+    public int getConnectFailures() {
+        return connectFailures.get();
+    }
+
+    public long getMessagesReceived() {
+        return messagesReceived.get();
+    }
+
+    public LatencyRecorder getConnectLatency() {
+        return connectLatency;
+    }
+
+    public LatencyRecorder getDeliveryLatency() {
+        return deliveryLatency;
+    }
+
+    @Override
+    public void close() {
+        StompSession session;
+        while ((session = sessions.poll()) != null) {
+            try {
+                session.disconnect();
+            } catch (RuntimeException e) {
+                log.debug("STOMP disconnect failed: {}", e.getMessage());
+            }
+        }
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+    }
+
+    private class BidFrameHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long received = System.nanoTime();
+            messagesReceived.incrementAndGet();
+            JsonNode notification = (JsonNode) payload;
+            Long sentAt = bidSentAt.get(bidKey(notification.get("auctionId").asLong(),
+                    (float) notification.get("amount").asDouble()));
+            if (sentAt != null) {
+                deliveryLatency.record(received - sentAt);
+            }
+        }
+    }
+}